@@ -20,6 +20,7 @@ import net.slipcor.pvparena.loadables.ArenaModule;
 import net.slipcor.pvparena.loadables.ArenaModuleManager;
 import net.slipcor.pvparena.loadables.ArenaRegionShapeManager;
 import net.slipcor.pvparena.managers.ArenaManager;
+import net.slipcor.pvparena.managers.ChatManager;
 import net.slipcor.pvparena.managers.StatisticsManager;
 import net.slipcor.pvparena.managers.TabManager;
 import net.slipcor.pvparena.updater.UpdateChecker;
@@ -361,6 +362,8 @@ public class PVPArena extends JavaPlugin {
     public void onDisable() {
         shuttingDown = true;
         ArenaManager.reset(true);
+        ChatManager.stop();
+        StatisticsManager.shutdown();
         Debug.destroy();
         this.getUpdateChecker().runOnDisable();
         Language.logInfo(MSG.LOG_PLUGIN_DISABLED, getDescription().getFullName());
@@ -451,6 +454,7 @@ public class PVPArena extends JavaPlugin {
         Debug.load(this, Bukkit.getConsoleSender());
         ArenaClass.addGlobalClasses();
         ArenaManager.load_arenas();
+        ChatManager.start();
 
         if (getConfig().getBoolean("use_shortcuts") ||
                 getConfig().getBoolean("only_shortcuts")) {
@@ -8,12 +8,17 @@ import net.slipcor.pvparena.core.Config.CFG;
 import net.slipcor.pvparena.core.Language.MSG;
 import net.slipcor.pvparena.events.*;
 import net.slipcor.pvparena.loadables.ArenaGoal;
+import net.slipcor.pvparena.loadables.ArenaHookIndex;
 import net.slipcor.pvparena.loadables.ArenaModule;
 import net.slipcor.pvparena.loadables.ArenaModuleManager;
 import net.slipcor.pvparena.loadables.ArenaRegion;
 import net.slipcor.pvparena.loadables.ArenaRegion.RegionType;
 import net.slipcor.pvparena.managers.*;
+import net.slipcor.pvparena.runnables.ArenaRegionRunnable;
+import net.slipcor.pvparena.runnables.ArenaTickScheduler;
+import net.slipcor.pvparena.runnables.DamageResetRunnable;
 import net.slipcor.pvparena.runnables.StartRunnable;
+import net.slipcor.pvparena.runnables.TeleportStagingRunnable;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
@@ -44,7 +49,7 @@ import org.bukkit.util.Vector;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import static java.util.Optional.ofNullable;
 
@@ -71,8 +76,25 @@ public class Arena {
     private final Set<ArenaTeam> teams = new HashSet<>();
     private final Set<String> playedPlayers = new HashSet<>();
 
+    // copy on write: membership changes rarely, while ticks and broadcasts iterate it constantly
+    private final Set<ArenaPlayer> everyone = new CopyOnWriteArraySet<>();
+    private final Set<ArenaPlayer> everyoneView = Collections.unmodifiableSet(everyone);
+
     private final Set<PABlock> blocks = new HashSet<>();
     private final Set<PASpawn> spawns = new HashSet<>();
+    private final Set<PABlock> blocksView = Collections.unmodifiableSet(blocks);
+    private final Set<PASpawn> spawnsView = Collections.unmodifiableSet(spawns);
+    // rebuilt lazily after spawns or blocks changed
+    private volatile PASpawnIndex spawnIndex;
+    // fighter positions, shared by all goals checking within the same tick
+    private PAProximityGrid proximityGrid;
+    private long proximityGridTick;
+    // reused by every spawn camp check
+    private final Location campLocation = new Location(null, 0, 0, 0);
+    private ArenaPlayer[] campPlayers = new ArenaPlayer[16];
+    private int[] campWorlds = new int[16];
+    private double[] campCoords = new double[48];
+    private int[] campHits = new int[16];
 
     private final Map<Player, UUID> entities = new HashMap<>();
 
@@ -96,11 +118,20 @@ public class Arena {
     public BukkitRunnable realEndRunner;
     public BukkitRunnable startRunner;
     public int spawnCampRunnerID = -1;
+    private ArenaRegionRunnable regionRunner;
+    private final ArenaTickScheduler scheduler = new ArenaTickScheduler(this);
+    private final DamageResetRunnable damageReset = new DamageResetRunnable(this);
+    private final TeleportStagingRunnable teleportStaging = new TeleportStagingRunnable(this);
+    // parsed tp.offsets per spawn name, rebuilt lazily after a change
+    private Map<String, double[]> offsets;
+    // rebuilt lazily after goals, modules or the round changed
+    private ArenaHookIndex hookIndex;
 
     private boolean gaveRewards;
 
     private Config cfg;
     private YamlConfiguration language = new YamlConfiguration();
+    private final MessageTemplate.Cache messageTemplates = new MessageTemplate.Cache();
     private long startTime;
     private Scoreboard scoreboard = null;
 
@@ -220,6 +251,7 @@ public class Arena {
 
     public void addRegion(final ArenaRegion region) {
         regions.add(region);
+        ArenaManager.invalidateRegionIndex();
         getDebugger().i("loading region: " + region.getRegionName());
         if (region.getType() == RegionType.JOIN) {
             if (cfg.getBoolean(CFG.JOIN_FORCE)) {
@@ -230,6 +262,18 @@ public class Arena {
         }
     }
 
+    /**
+     * start the arena wide region runner, if it is not running yet
+     */
+    public void initRegionRunner() {
+        if (regionRunner != null) {
+            return;
+        }
+        final int timer = cfg.getInt(CFG.TIME_REGIONTIMER);
+        regionRunner = new ArenaRegionRunnable(this);
+        scheduler.runPersistentTimer("ArenaRegionRunnable", regionRunner, timer, timer);
+    }
+
     public void broadcast(final String msg) {
         getDebugger().i("@all: " + msg);
         final Set<ArenaPlayer> players = getEveryone();
@@ -348,6 +392,7 @@ public class Arena {
             if (!cfg.getBoolean(CFG.READY_ENFORCECOUNTDOWN) && getClass(cfg.getString(CFG.READY_AUTOCLASS)) == null && !fightInProgress) {
                 startRunner.cancel();
                 startRunner = null;
+                teleportStaging.release();
                 broadcast(Language.parse(this, MSG.TIMER_COUNTDOWN_INTERRUPTED));
             }
             return;
@@ -380,7 +425,7 @@ public class Arena {
     }
 
     public Set<PABlock> getBlocks() {
-        return blocks;
+        return blocksView;
     }
 
     public ArenaClass getClass(final String className) {
@@ -396,6 +441,27 @@ public class Arena {
         return classes;
     }
 
+    /**
+     * @return the scheduler running the timers of this arena
+     */
+    public ArenaTickScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * @return the collector of weapon and armor resets of this arena
+     */
+    public DamageResetRunnable getDamageReset() {
+        return damageReset;
+    }
+
+    /**
+     * @return the staging of teleports and spawn chunks of this arena
+     */
+    public TeleportStagingRunnable getTeleportStaging() {
+        return teleportStaging;
+    }
+
     public Debug getDebugger() {
         if (debug == null) {
             debug = new Debug(this);
@@ -414,11 +480,29 @@ public class Arena {
 
     /**
      * hand over everyone being part of the arena
+     *
+     * @return a read-only live view, safe to iterate while players join or leave
      */
     public Set<ArenaPlayer> getEveryone() {
-        return ArenaPlayer.getAllArenaPlayers().stream()
-                .filter(ap -> this.equals(ap.getArena()))
-                .collect(Collectors.toSet());
+        return everyoneView;
+    }
+
+    /**
+     * register a player as part of the arena - called by ArenaPlayer.setArena
+     *
+     * @param player the player joining the arena
+     */
+    void addMember(final ArenaPlayer player) {
+        everyone.add(player);
+    }
+
+    /**
+     * unregister a player from the arena - called by ArenaPlayer.setArena
+     *
+     * @param player the player leaving the arena
+     */
+    void removeMember(final ArenaPlayer player) {
+        everyone.remove(player);
     }
 
     /**
@@ -436,10 +520,35 @@ public class Arena {
         return players;
     }
 
+    /**
+     * get the fighter positions, built at most once per scheduler tick - to be
+     * called on the main thread. Outside of scheduler ticks it is built on
+     * every call.
+     *
+     * @return the proximity grid of the fighters
+     */
+    public PAProximityGrid getProximityGrid() {
+        if (proximityGrid == null || !scheduler.isRunning() || scheduler.getTick() != proximityGridTick) {
+            proximityGrid = new PAProximityGrid(getFighters());
+            proximityGridTick = scheduler.getTick();
+        }
+        return proximityGrid;
+    }
+
     public Set<ArenaGoal> getGoals() {
         return round == 0 ? goals : rounds.getGoals(round);
     }
 
+    /**
+     * @return the goals and modules of the current round per event hook
+     */
+    public ArenaHookIndex getHookIndex() {
+        if (hookIndex == null) {
+            hookIndex = new ArenaHookIndex(getGoals(), mods);
+        }
+        return hookIndex;
+    }
+
     public Set<ArenaModule> getMods() {
         return mods;
     }
@@ -449,26 +558,38 @@ public class Arena {
     }
 
     public Location getOffset(String spawnName) {
-        List<String> offsets = getArenaConfig().getStringList(CFG.TP_OFFSETS.getNode(), new ArrayList<String>());
-        for (String value : offsets) {
-            if (value != null && value.contains(":")) {
-                String[] split = value.split(":");
-                if (spawnName.equals(split[0])) {
+        final double[] offset = getOffsets().get(spawnName);
+        if (offset == null) {
+            return null;
+        }
+        return new Location(Bukkit.getServer().getWorlds().get(0), offset[0], offset[1], offset[2]);
+    }
+
+    private Map<String, double[]> getOffsets() {
+        if (offsets == null) {
+            final Map<String, double[]> result = new HashMap<>();
+            final List<String> values = getArenaConfig().getStringList(CFG.TP_OFFSETS.getNode(), new ArrayList<String>());
+            for (String value : values) {
+                if (value != null && value.contains(":")) {
+                    String[] split = value.split(":");
+                    if (result.containsKey(split[0])) {
+                        continue; // the first entry of a spawn wins
+                    }
                     String[] vals = split[1].split(";");
                     try {
-                        return new Location(
-                                Bukkit.getServer().getWorlds().get(0),
+                        result.put(split[0], new double[]{
                                 Double.parseDouble(vals[0]),
                                 Double.parseDouble(vals[1]),
                                 Double.parseDouble(vals[2])
-                        );
+                        });
                     } catch (Exception e) {
 
                     }
                 }
             }
+            offsets = result;
         }
-        return null;
+        return offsets;
     }
 
     public String getOwner() {
@@ -508,6 +629,11 @@ public class Arena {
         return regions;
     }
 
+    public void removeRegion(final ArenaRegion region) {
+        regions.remove(region);
+        ArenaManager.invalidateRegionIndex();
+    }
+
     public int getRound() {
         return round;
     }
@@ -525,7 +651,19 @@ public class Arena {
     }
 
     public Set<PASpawn> getSpawns() {
-        return spawns;
+        return spawnsView;
+    }
+
+    /**
+     * @return the name index of the spawns and blocks
+     */
+    public PASpawnIndex getSpawnIndex() {
+        PASpawnIndex index = spawnIndex;
+        if (index == null) {
+            index = new PASpawnIndex(spawns, blocks);
+            spawnIndex = index;
+        }
+        return index;
     }
 
     private Scoreboard getSpecialScoreboard() {
@@ -982,6 +1120,7 @@ public class Arena {
             startRunner.cancel();
             broadcast(Language.parse(this, MSG.TIMER_COUNTDOWN_INTERRUPTED));
             startRunner = null;
+            teleportStaging.release();
         }
 
         if (fightInProgress) {
@@ -1146,6 +1285,7 @@ public class Arena {
         }
         getArenaConfig().setManually(CFG.TP_OFFSETS.getNode(), offsets);
         getArenaConfig().save();
+        this.offsets = null;
     }
 
     /**
@@ -1268,8 +1408,8 @@ public class Arena {
 
             p.reset();
         }
-        for (final ArenaPlayer player : ArenaPlayer.getAllArenaPlayers()) {
-            if (equals(player.getArena()) && player.getStatus() == Status.WATCH) {
+        for (final ArenaPlayer player : getEveryone()) {
+            if (player.getStatus() == Status.WATCH) {
 
                 callExitEvent(player.get());
                 resetPlayer(player.get(),
@@ -1423,6 +1563,9 @@ public class Arena {
             pvpRunner.cancel();
         }
         pvpRunner = null;
+        teleportStaging.reset();
+        damageReset.reset();
+        scheduler.reset();
 
         ArenaModuleManager.reset(this, force);
         ArenaManager.advance(Arena.this);
@@ -1430,6 +1573,7 @@ public class Arena {
         PVPArena.instance.getAgm().reset(this, force);
 
         round = 0;
+        hookIndex = null;
         StatisticsManager.save();
 
         try {
@@ -1729,6 +1873,7 @@ public class Arena {
 
         getArenaConfig().setManually(CFG.TP_OFFSETS.getNode(), offsets);
         getArenaConfig().save();
+        this.offsets = null;
     }
 
     public void setOwner(final String owner) {
@@ -1747,46 +1892,65 @@ public class Arena {
      * damage every actively fighting player for being near a spawn
      */
     public void spawnCampPunish() {
-
-        final Map<Location, ArenaPlayer> players = new HashMap<>();
-
-        for (final ArenaPlayer ap : getFighters()) {
-            if (ap.getStatus() != Status.FIGHT) {
-                continue;
+        // collect the positions first, damage might change the teams
+        int count = 0;
+        for (final ArenaTeam team : teams) {
+            for (final ArenaPlayer ap : team.getTeamMembers()) {
+                final Player player = ap.get();
+                if (ap.getStatus() != Status.FIGHT || player == null) {
+                    continue;
+                }
+                if (count == campPlayers.length) {
+                    campPlayers = Arrays.copyOf(campPlayers, count * 2);
+                    campWorlds = Arrays.copyOf(campWorlds, count * 2);
+                    campCoords = Arrays.copyOf(campCoords, count * 6);
+                    campHits = Arrays.copyOf(campHits, count * 2);
+                }
+                player.getLocation(campLocation);
+                campPlayers[count] = ap;
+                campWorlds[count] = PABlockLocation.getWorldId(campLocation.getWorld().getName());
+                campCoords[count * 3] = campLocation.getX();
+                campCoords[count * 3 + 1] = campLocation.getY();
+                campCoords[count * 3 + 2] = campLocation.getZ();
+                campHits[count] = 0;
+                count++;
             }
-            players.put(ap.get().getLocation(), ap);
+        }
+        if (count == 0) {
+            return;
         }
 
+        final PASpawnIndex index = getSpawnIndex();
+        final boolean classSpawn = cfg.getBoolean(CFG.GENERAL_CLASSSPAWN);
+        final int damage = cfg.getInt(CFG.DAMAGE_SPAWNCAMP);
+
+        // every spawn of every active team nearby hurts once
         for (final ArenaTeam team : teams) {
-            if (team.getTeamMembers().size() < 1) {
+            if (team.getTeamMembers().isEmpty()) {
                 continue;
             }
-            final String sTeam = team.getName();
-            final Set<PALocation> spawns;
-
-
-            if (cfg.getBoolean(CFG.GENERAL_CLASSSPAWN)) {
-                spawns = SpawnManager.getSpawnsContaining(this, "spawn");
+            final PASpawnIndex.Points spawns;
+            if (classSpawn) {
+                spawns = index.getSpawnPointsContaining("spawn");
             } else {
-                spawns = SpawnManager.getSpawnsStartingWith(this, this.free ?"spawn":sTeam + "spawn");
-            }
-
-
-            for (final PALocation spawnLoc : spawns) {
-                for (final Map.Entry<Location, ArenaPlayer> locationArenaPlayerEntry : players.entrySet()) {
-                    if (spawnLoc.getDistanceSquared(new PALocation(locationArenaPlayerEntry.getKey())) < 9) {
-                        locationArenaPlayerEntry.getValue()
-                                .get()
-                                .setLastDamageCause(
-                                        new EntityDamageEvent(locationArenaPlayerEntry.getValue().get(),
-                                                DamageCause.CUSTOM,
-                                                1002));
-                        locationArenaPlayerEntry.getValue()
-                                .get()
-                                .damage(cfg.getInt(
-                                        CFG.DAMAGE_SPAWNCAMP));
-                    }
-                }
+                spawns = index.getSpawnPointsStartingWith(this.free ? "spawn" : team.getName() + "spawn");
+            }
+            if (spawns.size() == 0) {
+                continue;
+            }
+            for (int i = 0; i < count; i++) {
+                campHits[i] += spawns.countNear(campWorlds[i],
+                        campCoords[i * 3], campCoords[i * 3 + 1], campCoords[i * 3 + 2], 9);
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            final Player player = campPlayers[i].get();
+            final int hits = campHits[i];
+            campPlayers[i] = null;
+            for (int hit = 0; hit < hits && player != null; hit++) {
+                player.setLastDamageCause(new EntityDamageEvent(player, DamageCause.CUSTOM, 1002));
+                player.damage(damage);
             }
         }
     }
@@ -1856,11 +2020,15 @@ public class Arena {
         }
 
         if (overRide || errror == null || errror.isEmpty()) {
+            for (final ArenaRegion region : regions) {
+                region.finishSweep();
+            }
             final Boolean handle = PACheck.handleStart(this, null, forceStart);
 
             if (overRide || handle) {
                 getDebugger().i("START!");
                 setFightInProgress(true);
+                teleportStaging.releaseIfIdle();
 
                 if (getArenaConfig().getBoolean(CFG.USES_SCOREBOARD)) {
                     Objective obj = getSpecialScoreboard().getObjective("lives");
@@ -1947,11 +2115,16 @@ public class Arena {
      */
     public void tpPlayerToCoordNameForJoin(final ArenaPlayer player, final String place, boolean async) {
         Location destination = this.prepareTeleportation(player, place);
-        int delay = async ? 2 : 0;
-        Bukkit.getScheduler().runTaskLater(PVPArena.instance, () -> {
+        final Runnable teleport = () -> {
             teleportPlayer(place, player, destination);
             setupScoreboard(player);
-        }, delay);
+        };
+        if (async) {
+            // one tick here, one in the staging
+            scheduler.runLater("JoinTeleport", () -> teleportStaging.stage(teleport), 1);
+        } else {
+            teleportStaging.stage(teleport);
+        }
         this.execPostTeleportationFixes(player);
     }
 
@@ -1987,15 +2160,15 @@ public class Arena {
 
         debug.i("raw location: " + loc.toString());
 
-        Location offset = this.getOffset(place);
-        if (offset == null) {
-            offset = new Location(Bukkit.getWorlds().get(0), 0, 0, 0);
-        }
-        debug.i("offset location: " + offset.toString());
-
         aPlayer.setTeleporting(true);
         aPlayer.setTelePass(true);
-        return loc.toLocation().add(offset.getX(), offset.getY(), offset.getZ());
+
+        final double[] offset = getOffsets().get(place);
+        if (offset == null) {
+            return loc.toLocation();
+        }
+        debug.i(() -> "offset: " + Arrays.toString(offset));
+        return loc.toLocation().add(offset[0], offset[1], offset[2]);
     }
 
     private void execPostTeleportationFixes(ArenaPlayer aPlayer) {
@@ -2277,10 +2450,12 @@ public class Arena {
             }
             rounds = new PARoundMap(this, outer);
         }
+        hookIndex = null;
     }
 
     public void setRound(final int value) {
         round = value;
+        hookIndex = null;
     }
 
     public static void pmsg(final CommandSender sender, final String[] msgs) {
@@ -2298,6 +2473,7 @@ public class Arena {
 
         cfg.set(CFG.LISTS_GOALS, list);
         cfg.save();
+        hookIndex = null;
     }
 
     private void updateMods() {
@@ -2309,6 +2485,7 @@ public class Arena {
 
         cfg.set(CFG.LISTS_MODS, list);
         cfg.save();
+        hookIndex = null;
     }
 
     public void updateRounds() {
@@ -2324,6 +2501,7 @@ public class Arena {
 
         cfg.setManually("rounds", result);
         cfg.save();
+        hookIndex = null;
     }
 
     public void updateScoreboards() {
@@ -2416,6 +2594,10 @@ public class Arena {
         return language;
     }
 
+    public MessageTemplate.Cache getMessageTemplates() {
+        return messageTemplates;
+    }
+
     public void setStartingTime() {
         startTime = System.currentTimeMillis();
     }
@@ -2433,6 +2615,7 @@ public class Arena {
             }
         }
         blocks.add(paBlock);
+        spawnIndex = null;
     }
 
     public void addSpawn(final PASpawn paSpawn) {
@@ -2443,6 +2626,7 @@ public class Arena {
             }
         }
         spawns.add(paSpawn);
+        spawnIndex = null;
     }
 
     public boolean allowsJoinInBattle() {
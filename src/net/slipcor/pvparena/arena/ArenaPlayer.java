@@ -11,8 +11,10 @@ import net.slipcor.pvparena.core.Debug;
 import net.slipcor.pvparena.events.PAPlayerClassChangeEvent;
 import net.slipcor.pvparena.loadables.ArenaModuleManager;
 import net.slipcor.pvparena.managers.ArenaManager;
+import net.slipcor.pvparena.managers.ChatManager;
 import net.slipcor.pvparena.managers.InventoryManager;
 import net.slipcor.pvparena.managers.SpawnManager;
+import net.slipcor.pvparena.managers.StatisticsManager;
 import net.slipcor.pvparena.managers.StatisticsManager.Type;
 import org.bukkit.*;
 import org.bukkit.configuration.file.YamlConfiguration;
@@ -27,6 +29,7 @@ import org.bukkit.scoreboard.Scoreboard;
 
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Optional.ofNullable;
 
@@ -43,7 +46,24 @@ import static java.util.Optional.ofNullable;
 
 public class ArenaPlayer {
     private static final Debug debug = new Debug(5);
-    private static final Map<String, ArenaPlayer> totalPlayers = new HashMap<>();
+    private static final int DEFAULT_CACHE_SIZE = 1000;
+
+    // players being online or part of an arena, read without locking
+    private static final Map<String, ArenaPlayer> totalPlayers = new ConcurrentHashMap<>();
+    private static final Map<UUID, ArenaPlayer> playersById = new ConcurrentHashMap<>();
+
+    // offline players only known for their statistics, least recently used first
+    private static final Map<String, ArenaPlayer> offlinePlayers = new LinkedHashMap<String, ArenaPlayer>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, ArenaPlayer> eldest) {
+            if (size() > getCacheSize()) {
+                evictedPlayers++;
+                return true;
+            }
+            return false;
+        }
+    };
+    private static long evictedPlayers;
 
     private final String name;
     private boolean telePass;
@@ -63,6 +83,8 @@ public class ArenaPlayer {
     private ItemStack[] savedInventory;
     private final Set<PermissionAttachment> tempPermissions = new HashSet<>();
     private final Map<String, PAStatMap> statistics = new HashMap<>();
+    // the key in playersById, null while not registered
+    private UUID uuid;
 
     private Scoreboard backupBoard;
     private String backupBoardTeam;
@@ -115,8 +137,49 @@ public class ArenaPlayer {
         this.name = playerName;
     }
 
+    /**
+     * get all players currently held in memory, being online players and cached offline stat holders
+     *
+     * @return a copy of the known players
+     */
     public static Set<ArenaPlayer> getAllArenaPlayers() {
-        return new HashSet<>(totalPlayers.values());
+        synchronized (ArenaPlayer.class) {
+            final Set<ArenaPlayer> result = new HashSet<>(totalPlayers.values());
+            result.addAll(offlinePlayers.values());
+            return result;
+        }
+    }
+
+    /**
+     * @return the number of players being online or part of an arena
+     */
+    public static int countLoadedPlayers() {
+        synchronized (ArenaPlayer.class) {
+            return totalPlayers.size();
+        }
+    }
+
+    /**
+     * @return the number of offline players cached for their statistics
+     */
+    public static int countCachedPlayers() {
+        synchronized (ArenaPlayer.class) {
+            return offlinePlayers.size();
+        }
+    }
+
+    /**
+     * @return the number of offline players dropped from the cache since startup
+     */
+    public static long countEvictedPlayers() {
+        synchronized (ArenaPlayer.class) {
+            return evictedPlayers;
+        }
+    }
+
+    private static int getCacheSize() {
+        return PVPArena.instance == null ? DEFAULT_CACHE_SIZE :
+                Math.max(0, PVPArena.instance.getConfig().getInt("stats_cache_size", DEFAULT_CACHE_SIZE));
     }
 
     public boolean getFlyState() {
@@ -208,19 +271,45 @@ public class ArenaPlayer {
      * @return an ArenaPlayer instance belonging to that player
      */
     public static ArenaPlayer parsePlayer(final String name) {
-        synchronized (ArenaPlayer.class) {
-            Player player = Bukkit.getPlayerExact(name);
+        final Player player = Bukkit.getPlayerExact(name);
 
-            // Offline player or NPC
-            if (player == null) {
-                return new ArenaPlayer(name);
-            }
+        // Offline player or NPC
+        if (player == null) {
+            return new ArenaPlayer(name);
+        }
+        return parsePlayer(player);
+    }
 
-            if (!totalPlayers.containsKey(name)) {
-                ArenaPlayer ap = new ArenaPlayer(player.getName());
-                totalPlayers.putIfAbsent(name, ap);
+    /**
+     * get an ArenaPlayer from an online player, without looking the name up
+     *
+     * @param player the player to use
+     * @return an ArenaPlayer instance belonging to that player
+     */
+    public static ArenaPlayer parsePlayer(final Player player) {
+        final ArenaPlayer loaded = playersById.get(player.getUniqueId());
+        if (loaded != null && loaded.name.equals(player.getName())) {
+            return loaded;
+        }
+        final String name = player.getName();
+        if (Bukkit.getPlayerExact(name) == null) {
+            // NPC, not known to the server
+            return new ArenaPlayer(name);
+        }
+        synchronized (ArenaPlayer.class) {
+            ArenaPlayer ap = totalPlayers.get(name);
+            if (ap == null) {
+                ap = offlinePlayers.remove(name);
+                if (ap == null) {
+                    // unknown or evicted - read the statistics back from disk
+                    ap = new ArenaPlayer(name);
+                    StatisticsManager.loadStatistics(ap);
+                }
+                totalPlayers.put(name, ap);
             }
-            return totalPlayers.get(name);
+            playersById.put(player.getUniqueId(), ap);
+            ap.uuid = player.getUniqueId();
+            return ap;
         }
     }
 
@@ -232,9 +321,54 @@ public class ArenaPlayer {
      */
     public static ArenaPlayer addPlayer(final String name) {
         synchronized (ArenaPlayer.class) {
-            ArenaPlayer aPlayer = new ArenaPlayer(name);
-            totalPlayers.putIfAbsent(name, aPlayer);
-            return totalPlayers.get(name);
+            final ArenaPlayer loaded = totalPlayers.get(name);
+            if (loaded != null) {
+                return loaded;
+            }
+            ArenaPlayer aPlayer = offlinePlayers.get(name);
+            if (aPlayer == null) {
+                aPlayer = new ArenaPlayer(name);
+                offlinePlayers.put(name, aPlayer);
+            }
+            return aPlayer;
+        }
+    }
+
+    /**
+     * get an ArenaPlayer only if it is already in memory
+     *
+     * @param name the playername to look for
+     * @return the loaded or cached instance, null if there is none
+     */
+    public static ArenaPlayer getLoadedPlayer(final String name) {
+        final ArenaPlayer loaded = totalPlayers.get(name);
+        if (loaded != null) {
+            return loaded;
+        }
+        synchronized (ArenaPlayer.class) {
+            return offlinePlayers.get(name);
+        }
+    }
+
+    /**
+     * move a player that went offline to the statistics cache, so it can be evicted
+     *
+     * @param name the playername to unload
+     */
+    public static void unloadPlayer(final String name) {
+        synchronized (ArenaPlayer.class) {
+            final ArenaPlayer aPlayer = totalPlayers.get(name);
+            if (aPlayer == null || aPlayer.arena != null) {
+                // still part of an arena, keep it until the arena let it go
+                return;
+            }
+            debug.i("unloading arena player " + name, name);
+            totalPlayers.remove(name);
+            if (aPlayer.uuid != null) {
+                playersById.remove(aPlayer.uuid, aPlayer);
+                aPlayer.uuid = null;
+            }
+            offlinePlayers.put(name, aPlayer);
         }
     }
 
@@ -355,7 +489,7 @@ public class ArenaPlayer {
     public void addStatistic(final String arenaName, final Type type,
                              final int value) {
         if (!statistics.containsKey(arenaName)) {
-            statistics.put(arenaName, new PAStatMap());
+            statistics.put(arenaName, new PAStatMap(arenaName, this));
         }
 
         statistics.get(arenaName).incStat(type, value);
@@ -538,7 +672,7 @@ public class ArenaPlayer {
             return new PAStatMap();
         }
         if (statistics.get(arena.getName()) == null) {
-            statistics.put(arena.getName(), new PAStatMap());
+            statistics.put(arena.getName(), new PAStatMap(arena.getName(), this));
         }
         return statistics.get(arena.getName());
     }
@@ -568,6 +702,33 @@ public class ArenaPlayer {
         return tempPermissions;
     }
 
+    /**
+     * @param arenaName the arena name
+     * @param statType  the kind of stat
+     * @return the value in that arena, 0 if there is none
+     */
+    public int getStatistic(final String arenaName, final Type statType) {
+        final PAStatMap map = statistics.get(arenaName);
+        return map == null ? 0 : map.getStat(statType);
+    }
+
+    /**
+     * @param arenaName the arena name
+     * @return true if there are statistics of that arena in memory
+     */
+    public boolean hasStatistics(final String arenaName) {
+        return statistics.containsKey(arenaName);
+    }
+
+    /**
+     * forget the statistics of a removed arena
+     *
+     * @param arenaName the arena name
+     */
+    public void removeStatistics(final String arenaName) {
+        statistics.remove(arenaName);
+    }
+
     public int getTotalStatistics(final Type statType) {
         int sum = 0;
 
@@ -616,7 +777,7 @@ public class ArenaPlayer {
             return;
         }
 
-        arena = ArenaManager.getArenaByName(cfg.getString("arena"));
+        setArena(ArenaManager.getArenaByName(cfg.getString("arena")));
         savedInventory = cfg.getList("inventory").toArray(new ItemStack[0]);
                 /*StringParser.getItemStacksFromString(cfg.getString(
                 "inventory", "AIR"));*/
@@ -645,51 +806,10 @@ public class ArenaPlayer {
     public void reset() {
         debug.i("destroying arena player " + name, name);
         debugPrint();
-        final YamlConfiguration cfg = new YamlConfiguration();
-        try {
-            if (PVPArena.instance.getConfig().getBoolean("stats")) {
-
-                final String file = PVPArena.instance.getDataFolder()
-                        + "/players.yml";
-                cfg.load(file);
-
-                if (arena != null) {
-                    final String arenaName = arena.getName();
-                    cfg.set(arenaName + '.' + name + ".losses", getStatistics()
-                            .getStat(Type.LOSSES)
-                            + getTotalStatistics(Type.LOSSES));
-                    cfg.set(arenaName + '.' + name + ".wins",
-                            getStatistics()
-                                    .getStat(Type.WINS)
-                                    + getTotalStatistics(Type.WINS));
-                    cfg.set(arenaName + '.' + name + ".kills",
-                            getStatistics().getStat(
-                                    Type.KILLS)
-                                    + getTotalStatistics(Type.KILLS));
-                    cfg.set(arenaName + '.' + name + ".deaths", getStatistics()
-                            .getStat(Type.DEATHS)
-                            + getTotalStatistics(Type.DEATHS));
-                    cfg.set(arenaName + '.' + name + ".damage", getStatistics()
-                            .getStat(Type.DAMAGE)
-                            + getTotalStatistics(Type.DAMAGE));
-                    cfg.set(arenaName + '.' + name + ".maxdamage",
-                            getStatistics().getStat(
-                                    Type.MAXDAMAGE)
-                                    + getTotalStatistics(Type.MAXDAMAGE));
-                    cfg.set(arenaName + '.' + name + ".damagetake",
-                            getStatistics().getStat(
-                                    Type.DAMAGETAKE)
-                                    + getTotalStatistics(Type.DAMAGETAKE));
-                    cfg.set(arenaName + '.' + name + ".maxdamagetake",
-                            getStatistics().getStat(
-                                    Type.MAXDAMAGETAKE)
-                                    + getTotalStatistics(Type.MAXDAMAGETAKE));
-                }
-
-                cfg.save(file);
-            }
-        } catch (final Exception e) {
-            e.printStackTrace();
+        if (arena != null && PVPArena.instance.getConfig().getBoolean("stats")) {
+            // written together with the other players of this tick
+            StatisticsManager.update(arena, this);
+            StatisticsManager.save();
         }
 
         if (get() == null) {
@@ -714,7 +834,7 @@ public class ArenaPlayer {
                 team.remove(this);
             }
         }
-        arena = null;
+        setArena(null);
         aClass = null;
         get().setFireTicks(0);
         try {
@@ -738,7 +858,19 @@ public class ArenaPlayer {
      * @param arena the arena to set
      */
     public final void setArena(final Arena arena) {
+        if (this.arena == arena) {
+            return;
+        }
+        final Arena previous = this.arena;
+        if (previous != null) {
+            previous.removeMember(this);
+        }
         this.arena = arena;
+        if (arena != null) {
+            arena.addMember(this);
+        }
+        ChatManager.republish(previous);
+        ChatManager.republish(arena);
     }
 
     /**
@@ -803,6 +935,7 @@ public class ArenaPlayer {
 
     public void setPublicChatting(final boolean chatPublic) {
         publicChatting = chatPublic;
+        ChatManager.republish(arena);
     }
 
     public void setSelection(final Location loc, final boolean second) {
@@ -816,7 +949,7 @@ public class ArenaPlayer {
     public void setStatistic(final String arenaName, final Type type,
                              final int value) {
         if (!statistics.containsKey(arenaName)) {
-            statistics.put(arenaName, new PAStatMap());
+            statistics.put(arenaName, new PAStatMap(arenaName, this));
         }
 
         final PAStatMap map = statistics.get(arenaName);
@@ -825,7 +958,10 @@ public class ArenaPlayer {
 
     public void setStatus(final Status status) {
         debug.i(name + '>' + status.name(), name);
-        this.status = status;
+        if (this.status != status) {
+            this.status = status;
+            ChatManager.republish(arena);
+        }
     }
 
     /**
@@ -3,6 +3,7 @@ package net.slipcor.pvparena.arena;
 import net.slipcor.pvparena.arena.ArenaPlayer.Status;
 import net.slipcor.pvparena.core.ColorUtils;
 import net.slipcor.pvparena.core.Debug;
+import net.slipcor.pvparena.managers.ChatManager;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 
@@ -47,6 +48,7 @@ public class ArenaTeam {
         players.add(player);
         debug.i("Added player " + player.getName() + " to team " + name, player.get());
         player.getArena().increasePlayerCount();
+        ChatManager.republish(player.getArena());
     }
 
     /**
@@ -124,5 +126,6 @@ public class ArenaTeam {
      */
     public void remove(final ArenaPlayer player) {
         players.remove(player);
+        ChatManager.republish(player.getArena());
     }
 }
\ No newline at end of file
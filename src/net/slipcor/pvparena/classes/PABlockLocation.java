@@ -4,6 +4,10 @@ import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.util.Vector;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * <pre>
  * PVP Arena Location class
@@ -16,7 +20,11 @@ import org.bukkit.util.Vector;
  */
 
 public class PABlockLocation {
+    private static final Map<String, Integer> WORLD_IDS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_WORLD_ID = new AtomicInteger(1);
+
     private final String world;
+    private int worldId;
     private int x;
     private int y;
     private int z;
@@ -124,6 +132,33 @@ public class PABlockLocation {
         return this.world;
     }
 
+    /**
+     * get the interned id of the world, locations are in the same world if
+     * their ids are equal
+     *
+     * @return the world id, resolved on first use
+     */
+    public int getWorldId() {
+        if (this.worldId == 0) {
+            this.worldId = getWorldId(this.world);
+        }
+        return this.worldId;
+    }
+
+    /**
+     * get the interned id of a world name
+     *
+     * @param worldName the world name
+     * @return the id, the same for every call with an equal name
+     */
+    public static int getWorldId(final String worldName) {
+        if (worldName == null) {
+            return -1;
+        }
+        final Integer id = WORLD_IDS.get(worldName);
+        return id == null ? WORLD_IDS.computeIfAbsent(worldName, k -> NEXT_WORLD_ID.getAndIncrement()) : id;
+    }
+
     public int getX() {
         return this.x;
     }
@@ -0,0 +1,123 @@
+package net.slipcor.pvparena.classes;
+
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.arena.ArenaPlayer;
+import net.slipcor.pvparena.arena.ArenaPlayer.Status;
+import net.slipcor.pvparena.arena.ArenaTeam;
+import net.slipcor.pvparena.core.Config;
+import net.slipcor.pvparena.core.Config.CFG;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+
+/**
+ * <pre>PVP Arena Chat Route class</pre>
+ * <p/>
+ * An immutable copy of everything needed to route the chat of one arena
+ * player. Routes are built on the main thread and read by the async chat
+ * handler, which must not touch the arena itself.
+ *
+ * @author slipcor
+ */
+
+public final class PAChatRoute {
+    private final Arena arena;
+    private final String teamName;
+    private final ChatColor teamColor;
+    private final Status status;
+    private final boolean spectating;
+    private final boolean publicChatting;
+    private final boolean specTalk;
+    private final boolean chatEnabled;
+    private final boolean onlyPrivate;
+    private final boolean colorNick;
+    private final String toGlobal;
+    private final List<Player> teamRecipients;
+    private final List<Player> arenaRecipients;
+
+    /**
+     * create the route of a player - to be called on the main thread
+     *
+     * @param aPlayer         the arena player
+     * @param teamRecipients  the online members of the player's team, not to be modified
+     * @param arenaRecipients the online players of the arena, not to be modified
+     */
+    public PAChatRoute(final ArenaPlayer aPlayer, final List<Player> teamRecipients,
+                       final List<Player> arenaRecipients) {
+        final ArenaTeam team = aPlayer.getArenaTeam();
+        final Config config = aPlayer.getArena().getArenaConfig();
+
+        arena = aPlayer.getArena();
+        teamName = team == null ? null : team.getName();
+        teamColor = team == null ? ChatColor.WHITE : team.getColor();
+        status = aPlayer.getStatus();
+        spectating = team == null ||
+                status == Status.DEAD && aPlayer.get() == null ||
+                status == Status.LOST ||
+                status == Status.WATCH;
+        publicChatting = aPlayer.isPublicChatting();
+        specTalk = config.getBoolean(CFG.PERMS_SPECTALK);
+        chatEnabled = config.getBoolean(CFG.CHAT_ENABLED);
+        onlyPrivate = config.getBoolean(CFG.CHAT_ONLYPRIVATE);
+        colorNick = config.getBoolean(CFG.CHAT_COLORNICK);
+        toGlobal = config.getString(CFG.CHAT_TOGLOBAL);
+        this.teamRecipients = teamRecipients;
+        this.arenaRecipients = arenaRecipients;
+    }
+
+    public Arena getArena() {
+        return arena;
+    }
+
+    public String getTeamName() {
+        return teamName;
+    }
+
+    public ChatColor getTeamColor() {
+        return teamColor;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return true if the player has no team, is dead, lost or watching
+     */
+    public boolean isSpectating() {
+        return spectating;
+    }
+
+    public boolean isPublicChatting() {
+        return publicChatting;
+    }
+
+    public boolean isSpecTalk() {
+        return specTalk;
+    }
+
+    public boolean isChatEnabled() {
+        return chatEnabled;
+    }
+
+    public boolean isOnlyPrivate() {
+        return onlyPrivate;
+    }
+
+    public boolean isColorNick() {
+        return colorNick;
+    }
+
+    public String getToGlobal() {
+        return toGlobal;
+    }
+
+    public List<Player> getTeamRecipients() {
+        return teamRecipients;
+    }
+
+    public List<Player> getArenaRecipients() {
+        return arenaRecipients;
+    }
+}
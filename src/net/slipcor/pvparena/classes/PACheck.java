@@ -808,10 +808,8 @@ public class PACheck {
         }
 
         final SpawnCampRunnable scr = new SpawnCampRunnable(arena);
-        arena.spawnCampRunnerID = Bukkit.getScheduler()
-                .scheduleSyncRepeatingTask(PVPArena.instance, scr, 100L,
-                        arena.getArenaConfig().getInt(CFG.TIME_REGIONTIMER));
-        scr.setId(arena.spawnCampRunnerID);
+        arena.spawnCampRunnerID = scr.runTaskTimer(arena, 100L,
+                arena.getArenaConfig().getInt(CFG.TIME_REGIONTIMER)).getId();
 
         final Set<ArenaRegion> battleRegions = arena.getRegionsByType(RegionType.BATTLE);
 
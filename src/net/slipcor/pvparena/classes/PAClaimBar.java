@@ -1,7 +1,7 @@
 package net.slipcor.pvparena.classes;
 
-import net.slipcor.pvparena.PVPArena;
 import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.runnables.ArenaTickScheduler;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
@@ -10,12 +10,11 @@ import org.bukkit.boss.BarStyle;
 import org.bukkit.boss.BossBar;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 
 public class PAClaimBar {
     final Arena arena;
     final BossBar bar;
-    BukkitTask task;
+    ArenaTickScheduler.Task task;
     float progress = 0;
 
     public PAClaimBar(Arena arena, String title, ChatColor color, Location location, int range, long millis) {
@@ -31,7 +30,7 @@ public class PAClaimBar {
 
         long interval = millis / 10L;
 
-        task = Bukkit.getScheduler().runTaskTimer(PVPArena.instance, new ClaimRunner(), interval, interval);
+        task = arena.getScheduler().runTimer("PAClaimBar", new ClaimRunner(), interval, interval);
 
         arena.getDebugger().i("interval: " + interval);
     }
@@ -53,7 +52,7 @@ public class PAClaimBar {
 
         long interval = millis / 10L;
 
-        task = Bukkit.getScheduler().runTaskTimer(PVPArena.instance, new ClaimRunner(), interval, interval);
+        task = arena.getScheduler().runTimer("PAClaimBar", new ClaimRunner(), interval, interval);
 
         arena.getDebugger().i("interval: " + interval);
     }
@@ -0,0 +1,122 @@
+package net.slipcor.pvparena.classes;
+
+import net.slipcor.pvparena.arena.ArenaPlayer;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+
+/**
+ * <pre>
+ * PVP Arena Proximity Grid class
+ * </pre>
+ * <p/>
+ * The positions of the fighters of an arena at one point in time, bucketed
+ * into cells of 8x8 blocks per world. A proximity query only checks the
+ * fighters of the cells around the point, with squared distances. Players
+ * that left their team since the grid was built are skipped.
+ *
+ * @author slipcor
+ */
+
+public final class PAProximityGrid {
+    private static final int CELL_SHIFT = 3;
+
+    private final Map<String, Map<Long, List<Entry>>> worlds = new HashMap<>();
+
+    /**
+     * build a grid from the current positions of players
+     *
+     * @param players the players to add, offline players are skipped
+     */
+    public PAProximityGrid(final Collection<ArenaPlayer> players) {
+        for (final ArenaPlayer aPlayer : players) {
+            final Player player = aPlayer.get();
+            if (player == null) {
+                continue;
+            }
+            final Location loc = player.getLocation();
+            final Entry entry = new Entry(aPlayer, loc.getX(), loc.getY(), loc.getZ());
+            worlds.computeIfAbsent(loc.getWorld().getName(), k -> new HashMap<>())
+                    .computeIfAbsent(toKey(loc.getBlockX() >> CELL_SHIFT, loc.getBlockZ() >> CELL_SHIFT),
+                            k -> new ArrayList<>()).add(entry);
+        }
+    }
+
+    /**
+     * get the players within a distance of a point
+     *
+     * @param world  the world name
+     * @param x      the x coordinate
+     * @param y      the y coordinate
+     * @param z      the z coordinate
+     * @param radius the maximum distance, inclusive
+     * @return the players in range
+     */
+    public List<ArenaPlayer> getNearby(final String world, final double x, final double y,
+                                       final double z, final double radius) {
+        final Map<Long, List<Entry>> cells = worlds.get(world);
+        if (cells == null || radius < 0) {
+            return Collections.emptyList();
+        }
+        final int minCellX = (int) Math.floor(x - radius) >> CELL_SHIFT;
+        final int maxCellX = (int) Math.floor(x + radius) >> CELL_SHIFT;
+        final int minCellZ = (int) Math.floor(z - radius) >> CELL_SHIFT;
+        final int maxCellZ = (int) Math.floor(z + radius) >> CELL_SHIFT;
+        final double radiusSquared = radius * radius;
+
+        List<ArenaPlayer> result = null;
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                final List<Entry> cell = cells.get(toKey(cellX, cellZ));
+                if (cell == null) {
+                    continue;
+                }
+                for (final Entry entry : cell) {
+                    if (entry.player.getArenaTeam() == null) {
+                        continue;
+                    }
+                    final double dX = entry.x - x;
+                    final double dY = entry.y - y;
+                    final double dZ = entry.z - z;
+                    if (dX * dX + dY * dY + dZ * dZ <= radiusSquared) {
+                        if (result == null) {
+                            result = new ArrayList<>();
+                        }
+                        result.add(entry.player);
+                    }
+                }
+            }
+        }
+        return result == null ? Collections.<ArenaPlayer>emptyList() : result;
+    }
+
+    /**
+     * get the players within a distance of a location
+     *
+     * @param loc    the location
+     * @param radius the maximum distance, inclusive
+     * @return the players in range
+     */
+    public List<ArenaPlayer> getNearby(final Location loc, final double radius) {
+        return getNearby(loc.getWorld().getName(), loc.getX(), loc.getY(), loc.getZ(), radius);
+    }
+
+    private static long toKey(final int cellX, final int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    private static final class Entry {
+        private final ArenaPlayer player;
+        private final double x;
+        private final double y;
+        private final double z;
+
+        private Entry(final ArenaPlayer player, final double x, final double y, final double z) {
+            this.player = player;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package net.slipcor.pvparena.classes;
+
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.loadables.ArenaRegion;
+import net.slipcor.pvparena.loadables.ArenaRegionShape;
+
+import java.util.*;
+
+/**
+ * <pre>
+ * PVP Arena Region Index class
+ * </pre>
+ * <p/>
+ * A per world grid of chunks, each cell holding the regions whose bounding box
+ * touches that chunk. Lookups only have to check the candidates of one cell
+ * instead of every region of every arena.
+ *
+ * @author slipcor
+ */
+
+public final class PARegionIndex {
+    private static final ArenaRegion[] EMPTY = new ArenaRegion[0];
+
+    /**
+     * regions covering more chunks than this are not spread over the grid but
+     * checked on every lookup of their world
+     */
+    private static final int MAX_CHUNKS_PER_REGION = 4096;
+
+    private final Map<String, WorldIndex> worlds;
+
+    private PARegionIndex(final Map<String, WorldIndex> worlds) {
+        this.worlds = worlds;
+    }
+
+    /**
+     * build an index over the regions of the given arenas
+     *
+     * @param arenas the arenas to index, in lookup order
+     * @return an immutable region index
+     */
+    public static PARegionIndex build(final Collection<Arena> arenas) {
+        final Map<String, Map<Long, List<ArenaRegion>>> cells = new HashMap<>();
+        final Map<String, List<ArenaRegion>> oversized = new HashMap<>();
+
+        for (final Arena arena : arenas) {
+            for (final ArenaRegion region : arena.getRegions()) {
+                final int[] bounds = getChunkBounds(region);
+                if (bounds == null) {
+                    continue;
+                }
+                final String world = region.getWorldName();
+                final long chunkCount = (long) (bounds[2] - bounds[0] + 1) * (bounds[3] - bounds[1] + 1);
+
+                if (chunkCount > MAX_CHUNKS_PER_REGION) {
+                    oversized.computeIfAbsent(world, k -> new ArrayList<>()).add(region);
+                    continue;
+                }
+
+                final Map<Long, List<ArenaRegion>> worldCells =
+                        cells.computeIfAbsent(world, k -> new HashMap<>());
+                for (int cx = bounds[0]; cx <= bounds[2]; cx++) {
+                    for (int cz = bounds[1]; cz <= bounds[3]; cz++) {
+                        worldCells.computeIfAbsent(toKey(cx, cz), k -> new ArrayList<>()).add(region);
+                    }
+                }
+            }
+        }
+
+        final Set<String> worldNames = new HashSet<>(cells.keySet());
+        worldNames.addAll(oversized.keySet());
+
+        final Map<String, WorldIndex> worlds = new HashMap<>();
+        for (final String world : worldNames) {
+            final Map<Long, ArenaRegion[]> worldCells = new HashMap<>();
+            final Map<Long, List<ArenaRegion>> source = cells.get(world);
+            if (source != null) {
+                for (final Map.Entry<Long, List<ArenaRegion>> entry : source.entrySet()) {
+                    worldCells.put(entry.getKey(), entry.getValue().toArray(EMPTY));
+                }
+            }
+            final List<ArenaRegion> big = oversized.get(world);
+            worlds.put(world, new WorldIndex(worldCells, big == null ? EMPTY : big.toArray(EMPTY)));
+        }
+        return new PARegionIndex(worlds);
+    }
+
+    /**
+     * get the regions that might contain a location
+     *
+     * @param location the location to check
+     * @return the candidate regions, to be checked with shape.contains()
+     */
+    public ArenaRegion[] getCandidates(final PABlockLocation location) {
+        final WorldIndex index = worlds.get(location.getWorldName());
+        if (index == null) {
+            return EMPTY;
+        }
+        final ArenaRegion[] cell = index.cells.get(toKey(location.getX() >> 4, location.getZ() >> 4));
+        if (index.oversized.length == 0) {
+            return cell == null ? EMPTY : cell;
+        }
+        if (cell == null) {
+            return index.oversized;
+        }
+        final ArenaRegion[] result = Arrays.copyOf(cell, cell.length + index.oversized.length);
+        System.arraycopy(index.oversized, 0, result, cell.length, index.oversized.length);
+        return result;
+    }
+
+    /**
+     * calculate the chunk bounding box of a region
+     *
+     * @param region the region to read
+     * @return {minChunkX, minChunkZ, maxChunkX, maxChunkZ} or null if the region is not set up
+     */
+    private static int[] getChunkBounds(final ArenaRegion region) {
+        if (region.locs == null || region.locs[0] == null || region.locs[1] == null) {
+            return null;
+        }
+        final ArenaRegionShape shape = region.getShape();
+        int minX;
+        int minZ;
+        int maxX;
+        int maxZ;
+        try {
+            final PABlockLocation min = shape.getMinimumLocation();
+            final PABlockLocation max = shape.getMaximumLocation();
+            minX = Math.min(min.getX(), max.getX());
+            minZ = Math.min(min.getZ(), max.getZ());
+            maxX = Math.max(min.getX(), max.getX());
+            maxZ = Math.max(min.getZ(), max.getZ());
+        } catch (final Exception e) {
+            // world not loaded - fall back to the sphere around both corners
+            final PABlockLocation center = region.locs[0].getMidpoint(region.locs[1]);
+            final int radius = (int) Math.ceil(region.locs[0].getDistance(region.locs[1]) / 2);
+            minX = center.getX() - radius;
+            minZ = center.getZ() - radius;
+            maxX = center.getX() + radius;
+            maxZ = center.getZ() + radius;
+        }
+        // one block of padding to cover the rounding of the shape calculations
+        return new int[]{(minX - 1) >> 4, (minZ - 1) >> 4, (maxX + 1) >> 4, (maxZ + 1) >> 4};
+    }
+
+    private static long toKey(final int chunkX, final int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private static final class WorldIndex {
+        private final Map<Long, ArenaRegion[]> cells;
+        private final ArenaRegion[] oversized;
+
+        private WorldIndex(final Map<Long, ArenaRegion[]> cells, final ArenaRegion[] oversized) {
+            this.cells = cells;
+            this.oversized = oversized;
+        }
+    }
+}
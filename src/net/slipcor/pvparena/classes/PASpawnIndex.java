@@ -0,0 +1,316 @@
+package net.slipcor.pvparena.classes;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * <pre>
+ * PVP Arena Spawn Index class
+ * </pre>
+ * <p/>
+ * The spawns and blocks of an arena, sorted by name. Prefix lookups only walk
+ * the matching range of names, results are kept per query and handed out as
+ * immutable sets. An index is never changed, the arena builds a new one when
+ * its spawns or blocks change.
+ *
+ * @author slipcor
+ */
+
+public final class PASpawnIndex {
+    /**
+     * the maximum number of cached results per kind of query, lookups beyond
+     * that are answered but not remembered
+     */
+    private static final int MAX_CACHED_QUERIES = 256;
+
+    private final NavigableMap<String, PASpawn> spawns = new TreeMap<>();
+    private final NavigableMap<String, PABlock> blocks = new TreeMap<>();
+
+    private final Map<String, Set<PASpawn>> spawnsStartingWith = new ConcurrentHashMap<>();
+    private final Map<String, Set<PALocation>> spawnLocationsStartingWith = new ConcurrentHashMap<>();
+    private final Map<String, Set<PALocation>> spawnLocationsContaining = new ConcurrentHashMap<>();
+    private final Map<String, Set<PABlockLocation>> blockLocationsStartingWith = new ConcurrentHashMap<>();
+    private final Map<String, Set<PABlockLocation>> blockLocationsContaining = new ConcurrentHashMap<>();
+    private final Map<String, Set<PABlock>> blocksContaining = new ConcurrentHashMap<>();
+    private final Map<String, Points> spawnPointsStartingWith = new ConcurrentHashMap<>();
+    private final Map<String, Points> spawnPointsContaining = new ConcurrentHashMap<>();
+    private final Map<String, String[]> farSpawnOrders = new ConcurrentHashMap<>();
+
+    /**
+     * build an index over spawns and blocks
+     *
+     * @param spawnSet the spawns to index
+     * @param blockSet the blocks to index
+     */
+    public PASpawnIndex(final Collection<PASpawn> spawnSet, final Collection<PABlock> blockSet) {
+        for (final PASpawn spawn : spawnSet) {
+            spawns.put(spawn.getName(), spawn);
+        }
+        for (final PABlock block : blockSet) {
+            blocks.put(block.getName(), block);
+        }
+    }
+
+    public PASpawn getSpawn(final String name) {
+        return spawns.get(name);
+    }
+
+    public PABlock getBlock(final String name) {
+        return blocks.get(name);
+    }
+
+    public Set<PASpawn> getSpawnsStartingWith(final String prefix) {
+        return lookup(spawnsStartingWith, prefix, key -> new HashSet<>(withPrefix(spawns, key).values()));
+    }
+
+    public Set<PALocation> getSpawnLocationsStartingWith(final String prefix) {
+        return lookup(spawnLocationsStartingWith, prefix, key -> {
+            final Set<PALocation> result = new HashSet<>();
+            for (final PASpawn spawn : withPrefix(spawns, key).values()) {
+                result.add(spawn.getLocation());
+            }
+            return result;
+        });
+    }
+
+    public Set<PALocation> getSpawnLocationsContaining(final String part) {
+        return lookup(spawnLocationsContaining, part, key -> {
+            final Set<PALocation> result = new HashSet<>();
+            for (final PASpawn spawn : spawns.values()) {
+                if (spawn.getName().contains(key)) {
+                    result.add(spawn.getLocation());
+                }
+            }
+            return result;
+        });
+    }
+
+    public Set<PABlockLocation> getBlockLocationsStartingWith(final String prefix) {
+        return lookup(blockLocationsStartingWith, prefix, key -> {
+            final Set<PABlockLocation> result = new HashSet<>();
+            for (final PABlock block : withPrefix(blocks, key).values()) {
+                result.add(block.getLocation());
+            }
+            return result;
+        });
+    }
+
+    public Set<PABlockLocation> getBlockLocationsContaining(final String part) {
+        return lookup(blockLocationsContaining, part, key -> {
+            final Set<PABlockLocation> result = new HashSet<>();
+            for (final PABlock block : getBlocksContaining(key)) {
+                result.add(block.getLocation());
+            }
+            return result;
+        });
+    }
+
+    public Set<PABlock> getBlocksContaining(final String part) {
+        return lookup(blocksContaining, part, key -> {
+            final Set<PABlock> result = new HashSet<>();
+            for (final PABlock block : blocks.values()) {
+                if (block.getName().contains(key)) {
+                    result.add(block);
+                }
+            }
+            return result;
+        });
+    }
+
+    /**
+     * get the coordinates of the spawns whose name starts with a prefix
+     *
+     * @param prefix the prefix
+     * @return the coordinates of the matching spawns
+     */
+    public Points getSpawnPointsStartingWith(final String prefix) {
+        return cached(spawnPointsStartingWith, prefix, key -> new Points(withPrefix(spawns, key).values()));
+    }
+
+    /**
+     * get the coordinates of the spawns whose name contains a string
+     *
+     * @param part the string to look for
+     * @return the coordinates of the matching spawns
+     */
+    public Points getSpawnPointsContaining(final String part) {
+        return cached(spawnPointsContaining, part, key -> {
+            final List<PASpawn> result = new ArrayList<>();
+            for (final PASpawn spawn : spawns.values()) {
+                if (spawn.getName().contains(key)) {
+                    result.add(spawn);
+                }
+            }
+            return new Points(result);
+        });
+    }
+
+    /**
+     * get the spawns whose name starts with a prefix, ordered so that every
+     * spawn is the one farthest away from all spawns before it
+     *
+     * @param prefix the prefix
+     * @return the spawn names, the first being the first by name
+     */
+    public String[] getFarSpawnOrder(final String prefix) {
+        return cached(farSpawnOrders, prefix, key -> orderFarthest(withPrefix(spawns, key).values())).clone();
+    }
+
+    /**
+     * order spawns by distance: start with the first one, then always pick
+     * the spawn with the largest sum of squared distances to the ones picked
+     * so far
+     *
+     * @param spawnList the spawns to order
+     * @return the ordered spawn names
+     */
+    private static String[] orderFarthest(final Collection<PASpawn> spawnList) {
+        final PASpawn[] list = spawnList.toArray(new PASpawn[0]);
+        final int size = list.length;
+        final String[] result = new String[size];
+        if (size == 0) {
+            return result;
+        }
+
+        // pairwise squared distances, spawns of other worlds count as 0
+        final double[] distances = new double[size * size];
+        for (int i = 0; i < size; i++) {
+            final PALocation loc = list[i].getLocation();
+            for (int j = i + 1; j < size; j++) {
+                final PALocation other = list[j].getLocation();
+                if (loc.getWorldName().equals(other.getWorldName())) {
+                    final double distance = loc.getDistanceSquared(other);
+                    distances[i * size + j] = distance;
+                    distances[j * size + i] = distance;
+                }
+            }
+        }
+
+        final boolean[] taken = new boolean[size];
+        final double[] sums = new double[size];
+        int current = 0;
+        for (int pos = 0; pos < size; pos++) {
+            taken[current] = true;
+            result[pos] = list[current].getName();
+
+            int next = -1;
+            double best = 0;
+            for (int j = 0; j < size; j++) {
+                if (taken[j]) {
+                    continue;
+                }
+                sums[j] += distances[current * size + j];
+                if (next < 0) {
+                    // last resort: the first spawn left
+                    next = j;
+                }
+                if (sums[j] > best) {
+                    best = sums[j];
+                    next = j;
+                }
+            }
+            current = next;
+        }
+        return result;
+    }
+
+    /**
+     * get the entries whose name starts with a prefix
+     *
+     * @param map    the sorted entries
+     * @param prefix the prefix
+     * @return a view of the matching range
+     */
+    private static <T> SortedMap<String, T> withPrefix(final NavigableMap<String, T> map, final String prefix) {
+        if (prefix.isEmpty()) {
+            return map;
+        }
+        final char last = prefix.charAt(prefix.length() - 1);
+        if (last == Character.MAX_VALUE) {
+            final SortedMap<String, T> result = new TreeMap<>();
+            for (final Map.Entry<String, T> entry : map.tailMap(prefix, true).entrySet()) {
+                if (!entry.getKey().startsWith(prefix)) {
+                    break;
+                }
+                result.put(entry.getKey(), entry.getValue());
+            }
+            return result;
+        }
+        // the first name after all names starting with prefix
+        final String end = prefix.substring(0, prefix.length() - 1) + (char) (last + 1);
+        return map.subMap(prefix, true, end, false);
+    }
+
+    private static <T> Set<T> lookup(final Map<String, Set<T>> cache, final String query,
+                                     final Function<String, Set<T>> search) {
+        return cached(cache, query, key -> Collections.unmodifiableSet(search.apply(key)));
+    }
+
+    private static <V> V cached(final Map<String, V> cache, final String query,
+                                final Function<String, V> search) {
+        final V cached = cache.get(query);
+        if (cached != null) {
+            return cached;
+        }
+        final V result = search.apply(query);
+        if (cache.size() < MAX_CACHED_QUERIES) {
+            cache.put(query, result);
+        }
+        return result;
+    }
+
+    /**
+     * The coordinates of some spawns as flat arrays, for checks that run
+     * often and must not allocate
+     */
+    public static final class Points {
+        private final int[] worldIds;
+        private final double[] coords;
+
+        private Points(final Collection<PASpawn> spawns) {
+            worldIds = new int[spawns.size()];
+            coords = new double[spawns.size() * 3];
+            int pos = 0;
+            for (final PASpawn spawn : spawns) {
+                final PALocation loc = spawn.getLocation();
+                worldIds[pos] = PABlockLocation.getWorldId(loc.getWorldName());
+                coords[pos * 3] = loc.getX();
+                coords[pos * 3 + 1] = loc.getY();
+                coords[pos * 3 + 2] = loc.getZ();
+                pos++;
+            }
+        }
+
+        public int size() {
+            return worldIds.length;
+        }
+
+        /**
+         * count the spawns within a distance of a point
+         *
+         * @param worldId         the interned world id of the point
+         * @param x               the x coordinate
+         * @param y               the y coordinate
+         * @param z               the z coordinate
+         * @param distanceSquared the squared distance, exclusive
+         * @return the number of spawns closer than the distance
+         */
+        public int countNear(final int worldId, final double x, final double y, final double z,
+                             final double distanceSquared) {
+            int result = 0;
+            for (int i = 0; i < worldIds.length; i++) {
+                if (worldIds[i] != worldId) {
+                    continue;
+                }
+                final double dX = coords[i * 3] - x;
+                final double dY = coords[i * 3 + 1] - y;
+                final double dZ = coords[i * 3 + 2] - z;
+                if (dX * dX + dY * dY + dZ * dZ < distanceSquared) {
+                    result++;
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package net.slipcor.pvparena.classes;
 
+import net.slipcor.pvparena.arena.ArenaPlayer;
 import net.slipcor.pvparena.managers.StatisticsManager;
 
 import java.util.HashMap;
@@ -16,13 +17,33 @@ import java.util.Map;
 
 public class PAStatMap {
     private final Map<StatisticsManager.Type, Integer> map = new HashMap<>();
+    private final String arenaName;
+    private final ArenaPlayer player;
+
+    /**
+     * create a detached map, its changes are not ranked
+     */
+    public PAStatMap() {
+        this(null, null);
+    }
+
+    /**
+     * create the map of a player in an arena, its changes update the leaderboards
+     *
+     * @param arenaName the arena name
+     * @param player    the player
+     */
+    public PAStatMap(final String arenaName, final ArenaPlayer player) {
+        this.arenaName = arenaName;
+        this.player = player;
+    }
 
     public void decStat(final StatisticsManager.Type type) {
         decStat(type, 1);
     }
 
     public void decStat(final StatisticsManager.Type type, final int value) {
-        map.put(type, getStat(type) - value);
+        setStat(type, getStat(type) - value);
     }
 
     public int getStat(final StatisticsManager.Type type) {
@@ -34,10 +55,13 @@ public class PAStatMap {
     }
 
     public void incStat(final StatisticsManager.Type type, final int value) {
-        map.put(type, getStat(type) + value);
+        setStat(type, getStat(type) + value);
     }
 
     public void setStat(final StatisticsManager.Type type, final int value) {
         map.put(type, value);
+        if (arenaName != null) {
+            StatisticsManager.updateLeaderboard(arenaName, player, type, value);
+        }
     }
 }
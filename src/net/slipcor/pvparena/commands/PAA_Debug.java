@@ -6,6 +6,7 @@ import net.slipcor.pvparena.core.Debug;
 import net.slipcor.pvparena.core.Help;
 import net.slipcor.pvparena.core.Help.HELP;
 import net.slipcor.pvparena.managers.ArenaManager;
+import net.slipcor.pvparena.runnables.ArenaTickScheduler;
 import org.bukkit.command.CommandSender;
 
 import java.util.Collections;
@@ -32,7 +33,12 @@ public class PAA_Debug extends AbstractGlobalCommand {
             return;
         }
 
-        if (!argCountValid(sender, args, new Integer[]{0, 1})) {
+        if (!argCountValid(sender, args, new Integer[]{0, 1, 2})) {
+            return;
+        }
+
+        if (args.length > 0 && "tasks".equalsIgnoreCase(args[0])) {
+            listTasks(sender, args.length > 1 ? ArenaManager.getArenaByName(args[1]) : null);
             return;
         }
 
@@ -43,6 +49,23 @@ public class PAA_Debug extends AbstractGlobalCommand {
         Debug.load(PVPArena.instance, sender);
     }
 
+    /**
+     * show the pending timers of the arena schedulers with their timing stats
+     *
+     * @param sender the sender to tell
+     * @param only   the arena to list, null for all arenas
+     */
+    private static void listTasks(final CommandSender sender, final Arena only) {
+        for (final Arena arena : ArenaManager.getArenas()) {
+            if (only != null && only != arena) {
+                continue;
+            }
+            for (final ArenaTickScheduler.Task task : arena.getScheduler().getTasks()) {
+                Arena.pmsg(sender, arena.getName() + " - " + task);
+            }
+        }
+    }
+
     @Override
     public String getName() {
         return getClass().getName();
@@ -72,6 +95,9 @@ public class PAA_Debug extends AbstractGlobalCommand {
         result.define(new String[]{"all"});
         result.define(new String[]{"none"});
         result.define(new String[]{"off"});
+        for (final Arena arena : ArenaManager.getArenas()) {
+            result.define(new String[]{"tasks", arena.getName()});
+        }
         return result;
     }
 }
@@ -10,6 +10,7 @@ import net.slipcor.pvparena.core.Language;
 import net.slipcor.pvparena.core.Language.MSG;
 import net.slipcor.pvparena.core.StringParser;
 import net.slipcor.pvparena.loadables.ArenaRegion;
+import net.slipcor.pvparena.managers.ArenaManager;
 import net.slipcor.pvparena.managers.SpawnManager;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -165,12 +166,14 @@ public class PAA_Setup extends AbstractArenaCommand {
                         final BlockFace direction = StringParser.parseToBlockFace(word[4]);
                         if (direction != null) {
                             region.getShape().move(direction, Integer.parseInt(word[3]));
+                            ArenaManager.invalidateRegionIndex();
                         }
                     } else if (word[2].startsWith("e")) {
                         // expand
                         final BlockFace direction = StringParser.parseToBlockFace(word[4]);
                         if (direction != null) {
                             region.getShape().extend(direction, Integer.parseInt(word[3]));
+                            ArenaManager.invalidateRegionIndex();
                         }
                     }
                 }
@@ -8,12 +8,11 @@ import net.slipcor.pvparena.core.Language.MSG;
 import net.slipcor.pvparena.core.StringParser;
 import net.slipcor.pvparena.managers.StatisticsManager;
 import net.slipcor.pvparena.managers.StatisticsManager.Type;
+import net.slipcor.pvparena.statistics.Leaderboard;
 import org.bukkit.command.CommandSender;
 
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 
 /**
  * <pre>PVP Arena STATS Command class</pre>
@@ -36,7 +35,7 @@ public class PAI_Stats extends AbstractArenaCommand {
             return;
         }
 
-        if (!argCountValid(sender, arena, args, new Integer[]{1, 2})) {
+        if (!argCountValid(sender, arena, args, new Integer[]{1, 2, 3})) {
             return;
         }
 
@@ -47,9 +46,8 @@ public class PAI_Stats extends AbstractArenaCommand {
             return;
         }
 
-        Map<String, Integer> playersStats = StatisticsManager.getStats(arena, statType);
-
         int max = 10;
+        int page = 0;
 
         if (args.length > 1) {
             try {
@@ -58,6 +56,13 @@ public class PAI_Stats extends AbstractArenaCommand {
             }
         }
 
+        if (args.length > 2) {
+            try {
+                page = Math.max(0, Integer.parseInt(args[2]) - 1);
+            } catch (NumberFormatException ignored) {
+            }
+        }
+
         final String s2 = Language.parse(arena, MSG.getByName("STATTYPE_" + statType.name()));
 
         final String s1 = Language.parse(arena, MSG.STATS_HEAD, String.valueOf(max), s2);
@@ -65,10 +70,11 @@ public class PAI_Stats extends AbstractArenaCommand {
 
         Arena.pmsg(sender, s1);
 
-        playersStats.entrySet().stream()
-                .sorted(Map.Entry.comparingByValue(Comparator.reverseOrder()))
-                .limit(max)
-                .forEach(stat -> Arena.pmsg(sender, stat.getKey() + " : " + stat.getValue()));
+        StatisticsManager.getPage(arena, statType, page, max, stats -> {
+            for (final Leaderboard.Entry stat : stats) {
+                Arena.pmsg(sender, stat.getName() + " : " + stat.getValue());
+            }
+        });
     }
 
     @Override
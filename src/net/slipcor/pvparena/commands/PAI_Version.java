@@ -2,6 +2,7 @@ package net.slipcor.pvparena.commands;
 
 import net.slipcor.pvparena.PVPArena;
 import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.arena.ArenaPlayer;
 import net.slipcor.pvparena.core.Help;
 import net.slipcor.pvparena.core.Help.HELP;
 import net.slipcor.pvparena.loadables.ArenaGoal;
@@ -40,6 +41,9 @@ public class PAI_Version extends AbstractGlobalCommand {
 
         Arena.pmsg(sender, ChatColor.COLOR_CHAR + "e" + ChatColor.COLOR_CHAR + "n-- PVP Arena version information --");
         Arena.pmsg(sender, ChatColor.COLOR_CHAR + "ePVP Arena version: " + ChatColor.COLOR_CHAR + 'l' + PVPArena.instance.getDescription().getVersion());
+        Arena.pmsg(sender, ChatColor.COLOR_CHAR + "7Players in memory: " + ArenaPlayer.countLoadedPlayers()
+                + " loaded, " + ArenaPlayer.countCachedPlayers() + " cached, "
+                + ArenaPlayer.countEvictedPlayers() + " evicted");
         if (args.length < 2 || args[1].toLowerCase().startsWith("goal")) {
             Arena.pmsg(sender, ChatColor.COLOR_CHAR + "7-----------------------------------");
             Arena.pmsg(sender, ChatColor.COLOR_CHAR + "cArena Goals:");
@@ -42,6 +42,19 @@ public class Config {
     private final Map<String, Integer> ints;
     private final Map<String, Double> doubles;
     private final Map<String, String> strings;
+    private volatile MaterialLists materialLists;
+    private volatile Snapshot snapshot;
+
+    /**
+     * The block actions that can be white- and blacklisted (block.whitelist.use etc.)
+     */
+    public enum BlockAction {
+        BREAK, PLACE, USE;
+
+        private String getNode(final CFG list) {
+            return list.getNode() + '.' + name().toLowerCase();
+        }
+    }
 
     public enum CFG {
 
@@ -70,7 +83,9 @@ public class Config {
         GENERAL_LEAVEDEATH("general.leavedeath", false, null),
         GENERAL_LANG("general.lang", "none", null),
         GENERAL_OWNER("general.owner", "server", null),
+        GENERAL_REGIONENGINE("general.regionEngine", false, null),
         GENERAL_REGIONCLEAREXCEPTIONS("general.regionclearexceptions", new ArrayList<String>(), null),
+        GENERAL_REGIONCLEARCHUNKS("general.regionclearchunks", 0, null),
         GENERAL_QUICKSPAWN("general.quickspawn", true, null),
         GENERAL_PREFIX("general.prefix", "PVP Arena", null),
         GENERAL_SHOWREMAININGLIVES("general.showRemainingLives", true, null),
@@ -166,6 +181,7 @@ public class Config {
         TP_LOSE("tp.lose", "old", null),
         TP_WIN("tp.win", "old", null),
         TP_OFFSETS("tp.offsets", new ArrayList<String>(), null),
+        TP_PERTICK("tp.perTick", 4, null),
 
         USES_CLASSSIGNSDISPLAY("uses.classSignsDisplay", false, null),
         USES_DEATHMESSAGES("uses.deathMessages", true, null),
@@ -553,6 +569,7 @@ public class Config {
         ints = new HashMap<>();
         doubles = new HashMap<>();
         strings = new HashMap<>();
+        snapshot = new Snapshot(this);
     }
 
     public void createDefaults(final List<String> goals, final List<String> modules) {
@@ -580,6 +597,7 @@ public class Config {
     public boolean load() {
         try {
             cfg.load(configFile);
+            materialLists = null;
             reloadMaps();
             return true;
         } catch (final Exception e) {
@@ -594,6 +612,7 @@ public class Config {
      * strings-map, etc.
      */
     public void reloadMaps() {
+        materialLists = null;
         for (final String s : cfg.getKeys(true)) {
             final Object object = cfg.get(s);
 
@@ -607,6 +626,7 @@ public class Config {
                 strings.put(s, (String) object);
             }
         }
+        snapshot = new Snapshot(this);
     }
 
     /**
@@ -667,6 +687,10 @@ public class Config {
      * @return the boolean value of the path if the path exists, false otherwise
      */
     public boolean getBoolean(final CFG cfg) {
+        final Snapshot current = snapshot;
+        if (current.booleanStates[cfg.ordinal()] != Snapshot.UNKNOWN) {
+            return current.booleans[cfg.ordinal()];
+        }
         return getBoolean(cfg, (Boolean) cfg.getValue());
     }
 
@@ -678,9 +702,8 @@ public class Config {
      * @return the boolean value of the path if it exists, def otherwise
      */
     private boolean getBoolean(final CFG cfg, final boolean def) {
-        final String path = cfg.getNode();
-        final Boolean result = booleans.get(path);
-        return result == null ? def : result;
+        final Snapshot current = snapshot;
+        return current.booleanStates[cfg.ordinal()] == Snapshot.SET ? current.booleans[cfg.ordinal()] : def;
     }
 
     /**
@@ -690,6 +713,10 @@ public class Config {
      * @return the int value of the path if the path exists, 0 otherwise
      */
     public int getInt(final CFG cfg) {
+        final Snapshot current = snapshot;
+        if (current.intStates[cfg.ordinal()] != Snapshot.UNKNOWN) {
+            return current.ints[cfg.ordinal()];
+        }
         return getInt(cfg, (Integer) cfg.getValue());
     }
 
@@ -701,9 +728,8 @@ public class Config {
      * @return the int value of the path if it exists, def otherwise
      */
     public int getInt(final CFG cfg, final int def) {
-        final String path = cfg.getNode();
-        final Integer result = ints.get(path);
-        return result == null ? def : result;
+        final Snapshot current = snapshot;
+        return current.intStates[cfg.ordinal()] == Snapshot.SET ? current.ints[cfg.ordinal()] : def;
     }
 
     /**
@@ -713,6 +739,10 @@ public class Config {
      * @return the double value of the path if the path exists, 0D otherwise
      */
     public double getDouble(final CFG cfg) {
+        final Snapshot current = snapshot;
+        if (current.doubleStates[cfg.ordinal()] != Snapshot.UNKNOWN) {
+            return current.doubles[cfg.ordinal()];
+        }
         return getDouble(cfg, (Double) cfg.getValue());
     }
 
@@ -724,9 +754,8 @@ public class Config {
      * @return the double value of the path if it exists, def otherwise
      */
     public double getDouble(final CFG cfg, final double def) {
-        final String path = cfg.getNode();
-        final Double result = doubles.get(path);
-        return result == null ? def : result;
+        final Snapshot current = snapshot;
+        return current.doubleStates[cfg.ordinal()] == Snapshot.SET ? current.doubles[cfg.ordinal()] : def;
     }
 
     /**
@@ -736,6 +765,10 @@ public class Config {
      * @return the string value of the path if the path exists, null otherwise
      */
     public String getString(final CFG cfg) {
+        final Snapshot current = snapshot;
+        if (current.stringStates[cfg.ordinal()] != Snapshot.UNKNOWN) {
+            return current.strings[cfg.ordinal()];
+        }
         return getString(cfg, (String) cfg.getValue());
     }
 
@@ -747,9 +780,8 @@ public class Config {
      * @return the string value of the path if it exists, def otherwise
      */
     public String getString(final CFG cfg, final String def) {
-        final String path = cfg.getNode();
-        final String result = strings.get(path);
-        return result == null ? def : result;
+        final Snapshot current = snapshot;
+        return current.stringStates[cfg.ordinal()] == Snapshot.SET ? current.strings[cfg.ordinal()] : def;
     }
 
     public Material getMaterial(final CFG cfg) {
@@ -757,8 +789,7 @@ public class Config {
     }
 
     public Material getMaterial(final CFG cfg, final Material def) {
-        final String path = cfg.getNode();
-        final String result = strings.get(path);
+        final String result = getString(cfg, null);
         if (result == null || "none".equals(result)) {
             return def;
         }
@@ -803,6 +834,159 @@ public class Config {
     }
 
 
+    /**
+     * get the materials of a block whitelist
+     *
+     * @param action the block action
+     * @return an unmodifiable set of the listed materials
+     */
+    public Set<Material> getWhitelist(final BlockAction action) {
+        return getMaterialLists().whitelists.get(action);
+    }
+
+    /**
+     * get the materials of a block blacklist
+     *
+     * @param action the block action
+     * @return an unmodifiable set of the listed materials
+     */
+    public Set<Material> getBlacklist(final BlockAction action) {
+        return getMaterialLists().blacklists.get(action);
+    }
+
+    /**
+     * check a material against a block whitelist
+     *
+     * @param action   the block action
+     * @param material the material to check
+     * @return true if there is no whitelist or the material is on it
+     */
+    public boolean isWhitelisted(final BlockAction action, final Material material) {
+        final MaterialLists lists = getMaterialLists();
+        return !lists.activeWhitelists.contains(action) || lists.whitelists.get(action).contains(material);
+    }
+
+    /**
+     * check a material against a block blacklist
+     *
+     * @param action   the block action
+     * @param material the material to check
+     * @return true if the material is on the blacklist
+     */
+    public boolean isBlacklisted(final BlockAction action, final Material material) {
+        return getMaterialLists().blacklists.get(action).contains(material);
+    }
+
+    private MaterialLists getMaterialLists() {
+        MaterialLists lists = materialLists;
+        if (lists == null) {
+            lists = new MaterialLists();
+            for (final BlockAction action : BlockAction.values()) {
+                final List<String> whitelist = getStringList(action.getNode(CFG.LISTS_WHITELIST), null);
+                if (!whitelist.isEmpty()) {
+                    lists.activeWhitelists.add(action);
+                }
+                lists.whitelists.put(action, parseMaterials(whitelist));
+                lists.blacklists.put(action, parseMaterials(getStringList(action.getNode(CFG.LISTS_BLACKLIST), null)));
+            }
+            materialLists = lists;
+        }
+        return lists;
+    }
+
+    private static Set<Material> parseMaterials(final List<String> names) {
+        final Set<Material> result = EnumSet.noneOf(Material.class);
+        for (final String name : names) {
+            final Material material = Material.getMaterial(name);
+            if (material != null) {
+                result.add(material);
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    /**
+     * The compiled block lists, replaced as a whole when the config changes
+     */
+    private static final class MaterialLists {
+        private final Map<BlockAction, Set<Material>> whitelists = new EnumMap<>(BlockAction.class);
+        private final Map<BlockAction, Set<Material>> blacklists = new EnumMap<>(BlockAction.class);
+        private final Set<BlockAction> activeWhitelists = EnumSet.noneOf(BlockAction.class);
+    }
+
+    /**
+     * The values of all CFG nodes, indexed by ordinal. A new snapshot is built
+     * whenever the value maps change, so readers never see a partial update.
+     */
+    private static final class Snapshot {
+        private static final byte UNKNOWN = 0;
+        private static final byte DEFAULT = 1;
+        private static final byte SET = 2;
+
+        private final boolean[] booleans;
+        private final int[] ints;
+        private final double[] doubles;
+        private final String[] strings;
+        private final byte[] booleanStates;
+        private final byte[] intStates;
+        private final byte[] doubleStates;
+        private final byte[] stringStates;
+
+        private Snapshot(final Config config) {
+            final CFG[] nodes = CFG.values();
+            booleans = new boolean[nodes.length];
+            ints = new int[nodes.length];
+            doubles = new double[nodes.length];
+            strings = new String[nodes.length];
+            booleanStates = new byte[nodes.length];
+            intStates = new byte[nodes.length];
+            doubleStates = new byte[nodes.length];
+            stringStates = new byte[nodes.length];
+
+            for (final CFG node : nodes) {
+                final int i = node.ordinal();
+                final String path = node.getNode();
+                final Object def = node.getValue();
+
+                final Boolean bool = config.booleans.get(path);
+                if (bool != null) {
+                    booleans[i] = bool;
+                    booleanStates[i] = SET;
+                } else if (def instanceof Boolean) {
+                    booleans[i] = (Boolean) def;
+                    booleanStates[i] = DEFAULT;
+                }
+
+                final Integer integer = config.ints.get(path);
+                if (integer != null) {
+                    ints[i] = integer;
+                    intStates[i] = SET;
+                } else if (def instanceof Integer) {
+                    ints[i] = (Integer) def;
+                    intStates[i] = DEFAULT;
+                }
+
+                final Double dbl = config.doubles.get(path);
+                if (dbl != null) {
+                    doubles[i] = dbl;
+                    doubleStates[i] = SET;
+                } else if (def instanceof Double) {
+                    doubles[i] = (Double) def;
+                    doubleStates[i] = DEFAULT;
+                }
+
+                final String string = config.strings.get(path);
+                if (string != null) {
+                    strings[i] = string;
+                    stringStates[i] = SET;
+                } else if (def instanceof String) {
+                    strings[i] = (String) def;
+                    stringStates[i] = DEFAULT;
+                }
+            }
+        }
+    }
+
     // /////////////////////////////////////////////////////////////////////////
     // //
     // MUTATORS //
@@ -838,6 +1022,11 @@ public class Config {
         }
 
         cfg.set(path, value);
+
+        if (path.startsWith("block.")) {
+            materialLists = null;
+        }
+        snapshot = new Snapshot(this);
     }
 
     public void set(final CFG cfg, final Object value) {
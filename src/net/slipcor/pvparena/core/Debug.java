@@ -13,6 +13,11 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.logging.Formatter;
 import java.util.logging.*;
 
@@ -32,6 +37,8 @@ public class Debug {
     private static boolean server_log;
 
     private static final String prefix = "[PA-debug] ";
+    private static final int QUEUE_SIZE = 4096;
+    private static final AtomicLong dropped = new AtomicLong();
     private static final Set<Integer> check = new HashSet<>();
     private static final Set<String> strings = new HashSet<>();
 
@@ -73,7 +80,7 @@ public class Debug {
 
                 handler.setFormatter(LogFileFormatter.newInstance());
 
-                logger.addHandler(handler);
+                logger.addHandler(new AsyncLogHandler(handler, "general"));
 
                 loggers.add(logger);
             } catch (final IOException | SecurityException ex) {
@@ -108,7 +115,7 @@ public class Debug {
 
                 handler.setFormatter(LogFileFormatter.newInstance());
 
-                arenaLogger.addHandler(handler);
+                arenaLogger.addHandler(new AsyncLogHandler(handler, arena.getName()));
                 loggers.add(arenaLogger);
                 debugs.add(this);
             } catch (final IOException | SecurityException ex) {
@@ -140,7 +147,7 @@ public class Debug {
      *
      * @return true if debugs, false otherwise
      */
-    private boolean debugs() {
+    public boolean debugs() {
         return override || active || check.contains(debugID) || check.contains(666);
     }
 
@@ -167,6 +174,37 @@ public class Debug {
         }
     }
 
+    /**
+     * log a message as prefixed INFO, building it only if this class debugs
+     *
+     * @param supplier the message supplier
+     */
+    public void i(final Supplier<String> supplier) {
+        if (!debugs()) {
+            return;
+        }
+        i(supplier.get());
+    }
+
+    /**
+     * log a player related message, building it only if it would be logged
+     *
+     * @param supplier the message supplier
+     * @param sender   the player the message is about
+     */
+    public void i(final Supplier<String> supplier, final CommandSender sender) {
+        final boolean logs;
+        if (sender == null) {
+            logs = arena == null ? debugs("null") : arena.getDebugger().debugs();
+        } else {
+            logs = debugs(sender.getName());
+        }
+        if (!logs) {
+            return;
+        }
+        i(supplier.get(), sender);
+    }
+
     public void i(final String string, final CommandSender sender) {
         if (arena == null && sender == null) {
             i(string, "null");
@@ -227,6 +265,11 @@ public class Debug {
         }
         logger = null;
 
+        final long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            PVPArena.instance.getLogger().warning("debug writer dropped " + lost + " messages");
+        }
+
         for (Logger logger : loggers) {
             for (Handler handler : logger.getHandlers()) {
                 handler.close();
@@ -279,6 +322,13 @@ public class Debug {
         }
     }
 
+    /**
+     * @return the number of debug messages dropped because the writer could not keep up
+     */
+    public static long getDroppedMessages() {
+        return dropped.get();
+    }
+
     private void activate() {
         active = true;
     }
@@ -296,6 +346,71 @@ public class Debug {
     }
 
 
+    /**
+     * A handler that hands log records to a bounded queue, written to the
+     * file by a background thread. If the queue is full, records are dropped
+     * and counted instead of blocking the server thread.
+     */
+    static class AsyncLogHandler extends Handler {
+        private final BlockingQueue<LogRecord> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+        private final Handler target;
+        private final Thread writer;
+        private volatile boolean running = true;
+
+        AsyncLogHandler(final Handler target, final String name) {
+            this.target = target;
+            writer = new Thread(this::drain, "PVPArena debug writer (" + name + ')');
+            writer.setDaemon(true);
+            writer.start();
+        }
+
+        private void drain() {
+            try {
+                while (running || !queue.isEmpty()) {
+                    final LogRecord record = queue.poll(500, TimeUnit.MILLISECONDS);
+                    if (record != null) {
+                        target.publish(record);
+                    } else {
+                        target.flush();
+                    }
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            LogRecord record;
+            while ((record = queue.poll()) != null) {
+                target.publish(record);
+            }
+            target.flush();
+        }
+
+        @Override
+        public void publish(final LogRecord record) {
+            if (!running || !queue.offer(record)) {
+                dropped.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void flush() {
+            // the writer thread flushes whenever the queue runs empty
+        }
+
+        @Override
+        public void close() {
+            if (!running) {
+                return;
+            }
+            running = false;
+            try {
+                writer.join(1000);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            target.close();
+        }
+    }
+
     static class LogFileFormatter extends Formatter {
 
         private final SimpleDateFormat date;
@@ -406,7 +406,7 @@ public final class Help {
                 LINE,
                 "shorthand command: -s",
                 LINE,
-                "/pa {arenaname} stats [stattype] {amount}",
+                "/pa {arenaname} stats [stattype] {amount} {page}",
                 LINE,
                 "An invalid stattype will list all available ones"}),
         VERSION("nulang.help.msg.version", new String[]{
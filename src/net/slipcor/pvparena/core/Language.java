@@ -26,6 +26,8 @@ public final class Language {
 
     private static final Debug debugger = new Debug(17);
     private static FileConfiguration config;
+    // bumped on every reload, to drop compiled arena templates
+    private static volatile int generation;
 
     public enum MSG {
 
@@ -701,6 +703,7 @@ public final class Language {
 
         private final String node;
         private String value;
+        private volatile MessageTemplate template;
 
         public static MSG getByNode(final String node) {
             for (final MSG m : MSG.values()) {
@@ -722,6 +725,16 @@ public final class Language {
 
         public void setValue(final String sValue) {
             value = sValue;
+            template = null;
+        }
+
+        MessageTemplate getTemplate() {
+            MessageTemplate result = template;
+            if (result == null) {
+                result = MessageTemplate.compile(value);
+                template = result;
+            }
+            return result;
         }
 
         @Override
@@ -743,6 +756,10 @@ public final class Language {
         return config;
     }
 
+    static int getGeneration() {
+        return generation;
+    }
+
     /**
      * create a language manager instance
      */
@@ -802,6 +819,7 @@ public final class Language {
         for (final MSG m : MSG.values()) {
             m.setValue(config.getString(m.getNode()));
         }
+        generation++;
     }
 
     /**
@@ -874,11 +892,11 @@ public final class Language {
      * @return the node string
      */
     public static String parse(final Arena arena, final MSG message) {
-        if (arena != null && arena.getLanguage().get(message.getNode()) != null) {
-            arena.getDebugger().i("MSG: " + message.name());
-            return StringParser.colorize((String) arena.getLanguage().get(message.getNode()));
+        if (arena == null) {
+            return message.getTemplate().render();
         }
-        return StringParser.colorize(message.toString());
+        arena.getDebugger().i(() -> "MSG: " + message.name());
+        return arena.getMessageTemplates().get(arena.getLanguage(), message).render();
     }
 
     /**
@@ -889,19 +907,11 @@ public final class Language {
      * @return the replaced node string
      */
     public static String parse(final Arena arena, final MSG message, final String... args) {
-        if (arena != null) {
-            arena.getDebugger().i("MSG: " + message.name());
+        if (arena == null) {
+            return message.getTemplate().render(args);
         }
-
-        String result = message.toString();
-        if (arena != null && arena.getLanguage().get(message.getNode()) != null) {
-            result = (String) arena.getLanguage().get(message.getNode());
-        }
-        int i = 0;
-        for (final String word : args) {
-            result = result.replace("%" + ++i + '%', word);
-        }
-        return StringParser.colorize(result);
+        arena.getDebugger().i(() -> "MSG: " + message.name());
+        return arena.getMessageTemplates().get(arena.getLanguage(), message).render(args);
     }
 
     /**
@@ -911,8 +921,8 @@ public final class Language {
      * @return the node string
      */
     public static String parse(final MSG message) {
-        debugger.i("MSG: " + message.name());
-        return StringParser.colorize(message.toString());
+        debugger.i(() -> "MSG: " + message.name());
+        return message.getTemplate().render();
     }
 
     /**
@@ -923,12 +933,7 @@ public final class Language {
      * @return the replaced node string
      */
     public static String parse(final MSG message, final String... args) {
-        debugger.i("MSG: " + message.name());
-        String result = message.toString();
-        int i = 0;
-        for (final String word : args) {
-            result = result.replace("%" + ++i + '%', word);
-        }
-        return StringParser.colorize(result);
+        debugger.i(() -> "MSG: " + message.name());
+        return message.getTemplate().render(args);
     }
 }
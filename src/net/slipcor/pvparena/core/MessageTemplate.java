@@ -0,0 +1,136 @@
+package net.slipcor.pvparena.core;
+
+import net.slipcor.pvparena.core.Language.MSG;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <pre>
+ * Message Template class
+ * </pre>
+ * <p/>
+ * A language node split at its %1%, %2%... placeholders, with the text in
+ * between colorized once. Rendering only appends the parts and arguments.
+ *
+ * @author slipcor
+ */
+
+public final class MessageTemplate {
+    private final String[] parts;
+    private final int[] args;
+    private final int length;
+
+    private MessageTemplate(final String[] parts, final int[] args) {
+        this.parts = parts;
+        this.args = args;
+        int sum = 0;
+        for (final String part : parts) {
+            sum += part.length();
+        }
+        length = sum;
+    }
+
+    /**
+     * split and colorize a language node
+     *
+     * @param raw the uncolored node value
+     * @return the template
+     */
+    public static MessageTemplate compile(final String raw) {
+        final List<String> parts = new ArrayList<>();
+        final List<Integer> args = new ArrayList<>();
+        int start = 0;
+        int pos = raw.indexOf('%');
+        while (pos >= 0) {
+            int end = pos + 1;
+            if (end < raw.length() && raw.charAt(end) >= '1' && raw.charAt(end) <= '9') {
+                while (end < raw.length() && Character.isDigit(raw.charAt(end))) {
+                    end++;
+                }
+                if (end < raw.length() && raw.charAt(end) == '%') {
+                    parts.add(StringParser.colorize(raw.substring(start, pos)));
+                    args.add(Integer.parseInt(raw.substring(pos + 1, end)) - 1);
+                    start = end + 1;
+                    pos = raw.indexOf('%', start);
+                    continue;
+                }
+            }
+            pos = raw.indexOf('%', pos + 1);
+        }
+        parts.add(StringParser.colorize(raw.substring(start)));
+
+        final int[] argArray = new int[args.size()];
+        for (int i = 0; i < argArray.length; i++) {
+            argArray[i] = args.get(i);
+        }
+        return new MessageTemplate(parts.toArray(new String[0]), argArray);
+    }
+
+    /**
+     * fill in the placeholders
+     *
+     * @param values the values of %1%, %2%... - placeholders without a value
+     *               are kept, values with color codes are colorized
+     * @return the message
+     */
+    public String render(final String... values) {
+        if (args.length == 0) {
+            return parts[0];
+        }
+        final StringBuilder builder = new StringBuilder(length + 16 * args.length);
+        builder.append(parts[0]);
+        for (int i = 0; i < args.length; i++) {
+            final int arg = args[i];
+            if (arg < values.length) {
+                final String value = values[arg];
+                builder.append(value.indexOf('&') < 0 ? value : StringParser.colorize(value));
+            } else {
+                builder.append('%').append(arg + 1).append('%');
+            }
+            builder.append(parts[i + 1]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * The templates of one arena language, compiled on first use. Nodes the
+     * arena does not translate use the global language. Everything is dropped
+     * when the global language is reloaded.
+     */
+    public static final class Cache {
+        private volatile State state = new State(null, -1);
+
+        /**
+         * @param language the arena language
+         * @param message  the message
+         * @return the template of the message in the arena language
+         */
+        public MessageTemplate get(final YamlConfiguration language, final MSG message) {
+            State current = state;
+            if (current.language != language || current.generation != Language.getGeneration()) {
+                current = new State(language, Language.getGeneration());
+                state = current;
+            }
+            MessageTemplate result = current.templates[message.ordinal()];
+            if (result == null) {
+                final Object value = language == null ? null : language.get(message.getNode());
+                result = value == null ? message.getTemplate() : compile((String) value);
+                current.templates[message.ordinal()] = result;
+            }
+            return result;
+        }
+
+        private static final class State {
+            private final YamlConfiguration language;
+            private final int generation;
+            private final MessageTemplate[] templates = new MessageTemplate[MSG.values().length];
+
+            private State(final YamlConfiguration language, final int generation) {
+                this.language = language;
+                this.generation = generation;
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package net.slipcor.pvparena.events;
+
+import net.slipcor.pvparena.arena.Arena;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+
+/**
+ * <pre>PVP Arena Leaderboard Event class</pre>
+ * <p/>
+ * is called when the leaderboards of an arena, or the global ones, were
+ * filled from the statistics store, so signs and scoreboards can be redrawn
+ *
+ * @author slipcor
+ */
+
+public class PALeaderboardEvent extends Event {
+    private static final HandlerList HANDLERS = new HandlerList();
+    private final Arena arena;
+
+    /**
+     * create a leaderboard event instance
+     *
+     * @param arena the arena, null for the global leaderboards
+     */
+    public PALeaderboardEvent(final Arena arena) {
+        super();
+        this.arena = arena;
+    }
+
+    /**
+     * hand over the arena instance
+     *
+     * @return the arena, null for the global leaderboards
+     */
+    public Arena getArena() {
+        return arena;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+}
@@ -116,14 +116,8 @@ public class GoalCheckPoints extends ArenaGoal {
     private Set<String> checkLocationPresentPlayers(final Location loc, final int distance) {
         final Set<String> result = new HashSet<>();
 
-        for (final ArenaPlayer p : this.arena.getFighters()) {
-            if (p.get().getLocation().getWorld().getName().equals(loc.getWorld().getName())) {
-                if (p.get().getLocation().distance(loc) > distance) {
-                    continue;
-                }
-
-                result.add(p.getName());
-            }
+        for (final ArenaPlayer p : this.arena.getProximityGrid().getNearby(loc, distance)) {
+            result.add(p.getName());
         }
 
         return result;
@@ -16,6 +16,8 @@ import net.slipcor.pvparena.loadables.ArenaGoal;
 import net.slipcor.pvparena.loadables.ArenaModuleManager;
 import net.slipcor.pvparena.managers.SpawnManager;
 import net.slipcor.pvparena.managers.TeamManager;
+import net.slipcor.pvparena.runnables.ArenaTickRunnable;
+import net.slipcor.pvparena.runnables.ArenaTickScheduler;
 import net.slipcor.pvparena.runnables.CircleParticleRunnable;
 import net.slipcor.pvparena.runnables.EndRunnable;
 import org.bukkit.*;
@@ -23,8 +25,6 @@ import org.bukkit.block.Block;
 import org.bukkit.command.CommandSender;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 
@@ -41,7 +41,7 @@ public class GoalDomination extends ArenaGoal {
     private static final int PRIORITY = 8;
     private static final int INTERVAL = 200;
 
-    private BukkitTask circleTask = null;
+    private ArenaTickScheduler.Task circleTask = null;
 
     public GoalDomination() {
         super("Domination");
@@ -183,12 +183,7 @@ public class GoalDomination extends ArenaGoal {
         final Set<String> result = new HashSet<>();
         final Location flagCenter = Utils.getCenteredLocation(loc);
 
-        for (final ArenaPlayer p : this.arena.getFighters()) {
-
-            if (p.get().getLocation().distance(flagCenter) > distance) {
-                continue;
-            }
-
+        for (final ArenaPlayer p : this.arena.getProximityGrid().getNearby(flagCenter, distance)) {
             result.add(p.getArenaTeam().getName());
         }
 
@@ -285,7 +280,7 @@ public class GoalDomination extends ArenaGoal {
                                     this.arena, false, loc,
                                     this.getFlagMap().get(loc), this);
 
-                            domRunner.runTaskTimer(PVPArena.instance, INTERVAL, INTERVAL);
+                            domRunner.runTaskTimer(this.arena, INTERVAL, INTERVAL);
 
                             this.getRunnerMap().put(loc, domRunner);
                             this.barStart(loc, contestingMsg, ChatColor.WHITE, checkDistance);
@@ -336,7 +331,7 @@ public class GoalDomination extends ArenaGoal {
                 final DominationRunnable running = new DominationRunnable(this.arena,
                         false, loc, this.getFlagMap().get(loc), this);
 
-                running.runTaskTimer(PVPArena.instance, INTERVAL, INTERVAL);
+                running.runTaskTimer(this.arena, INTERVAL, INTERVAL);
                 this.getRunnerMap().put(loc, running);
                 this.barStart(loc, unclaimingMsg, ChatColor.WHITE, checkDistance);
             } else {
@@ -385,7 +380,7 @@ public class GoalDomination extends ArenaGoal {
                             final DominationRunnable running = new DominationRunnable(
                                     this.arena, true, loc, sName, this);
 
-                            running.runTaskTimer(PVPArena.instance, INTERVAL, INTERVAL);
+                            running.runTaskTimer(this.arena, INTERVAL, INTERVAL);
                             this.getRunnerMap().put(loc, running);
                             this.barStart(loc, claimingMsg, team.getColor(), checkDistance);
                         }
@@ -679,12 +674,12 @@ public class GoalDomination extends ArenaGoal {
 
         final DominationMainRunnable domMainRunner = new DominationMainRunnable(this.arena, this);
         final int tickInterval = this.arena.getArenaConfig().getInt(CFG.GOAL_DOM_TICKINTERVAL);
-        domMainRunner.runTaskTimer(PVPArena.instance, tickInterval, tickInterval);
+        domMainRunner.runTaskTimer(this.arena, tickInterval, tickInterval);
 
         this.announceOffset = this.arena.getArenaConfig().getInt(CFG.GOAL_DOM_ANNOUNCEOFFSET);
 
         if(this.arena.getArenaConfig().getBoolean(CFG.GOAL_DOM_PARTICLECIRCLE)) {
-            this.circleTask = Bukkit.getScheduler().runTaskTimer(PVPArena.instance, new CircleParticleRunnable(this.arena, CFG.GOAL_DOM_CLAIMRANGE, this.getFlagMap()), 1L, 1L);
+            this.circleTask = this.arena.getScheduler().runTimer("CircleParticleRunnable", new CircleParticleRunnable(this.arena, CFG.GOAL_DOM_CLAIMRANGE, this.getFlagMap()), 1L, 1L);
         }
     }
 
@@ -759,7 +754,7 @@ public class GoalDomination extends ArenaGoal {
         return scores;
     }
 
-    private static class DominationRunnable extends BukkitRunnable {
+    private static class DominationRunnable extends ArenaTickRunnable {
         private final boolean taken;
         private final Location loc;
         private final Arena arena;
@@ -837,7 +832,7 @@ public class GoalDomination extends ArenaGoal {
         }
     }
 
-    private static class DominationMainRunnable extends BukkitRunnable {
+    private static class DominationMainRunnable extends ArenaTickRunnable {
         private final Arena arena;
         private final GoalDomination domination;
 
@@ -192,7 +192,7 @@ public class GoalFlags extends ArenaGoal implements Listener {
             }
 
             this.arena.getDebugger().i("player is in the team " + sTeam, player);
-            if (vFlag != null && vLoc.distance(vFlag) < 2) {
+            if (vFlag != null && vLoc.distanceSquared(vFlag) < 4) {
 
                 this.arena.getDebugger().i("player is at his flag", player);
 
@@ -304,7 +304,7 @@ public class GoalFlags extends ArenaGoal implements Listener {
                             .toLocation().toVector();
                 }
 
-                if (vFlag != null && vLoc.distance(vFlag) < 2) {
+                if (vFlag != null && vLoc.distanceSquared(vFlag) < 4) {
                     this.arena.getDebugger().i("flag found!", player);
                     this.arena.getDebugger().i("vFlag: " + vFlag, player);
 
@@ -431,7 +431,7 @@ public class GoalLiberation extends ArenaGoal {
 
                 String teamName = aPlayer.getArenaTeam().getName();
 
-                Bukkit.getScheduler().runTaskLater(PVPArena.instance, new RespawnRunnable(arena, aPlayer, teamName + "jail"), 1L);
+                arena.getScheduler().runLater("RespawnRunnable", new RespawnRunnable(arena, aPlayer, teamName + "jail"), 1L);
 
                 this.arena.unKillPlayer(aPlayer.get(), ofNullable(aPlayer.get().getLastDamageCause()).map(EntityDamageEvent::getCause).orElse(null), aPlayer.get().getKiller());
 
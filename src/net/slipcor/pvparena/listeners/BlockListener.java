@@ -1,6 +1,5 @@
 package net.slipcor.pvparena.listeners;
 
-import net.slipcor.pvparena.PVPArena;
 import net.slipcor.pvparena.arena.Arena;
 import net.slipcor.pvparena.arena.ArenaPlayer;
 import net.slipcor.pvparena.arena.ArenaPlayer.Status;
@@ -8,6 +7,7 @@ import net.slipcor.pvparena.classes.PABlockLocation;
 import net.slipcor.pvparena.classes.PACheck;
 import net.slipcor.pvparena.commands.PAA_Edit;
 import net.slipcor.pvparena.commands.PAA_Setup;
+import net.slipcor.pvparena.core.Config.BlockAction;
 import net.slipcor.pvparena.core.Config.CFG;
 import net.slipcor.pvparena.core.Debug;
 import net.slipcor.pvparena.core.Language;
@@ -17,8 +17,6 @@ import net.slipcor.pvparena.loadables.ArenaGoalManager;
 import net.slipcor.pvparena.loadables.ArenaModuleManager;
 import net.slipcor.pvparena.loadables.ArenaRegion.RegionProtection;
 import net.slipcor.pvparena.managers.ArenaManager;
-import net.slipcor.pvparena.runnables.DamageResetRunnable;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
@@ -34,9 +32,6 @@ import org.bukkit.event.hanging.HangingPlaceEvent;
 import org.bukkit.event.player.PlayerEvent;
 import org.bukkit.event.world.StructureGrowEvent;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import static java.util.Arrays.asList;
 
 /**
@@ -89,7 +84,7 @@ public class BlockListener implements Listener {
         if (event instanceof PlayerEvent) {
             final PlayerEvent e = (PlayerEvent) event;
 
-            final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(e.getPlayer().getName());
+            final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(e.getPlayer());
 
             if (aPlayer.getArena() != null && aPlayer.getArena() != arena) {
                 return false; // players in arenas should be caught by their arenas
@@ -111,10 +106,11 @@ public class BlockListener implements Listener {
             return;
         }
 
-        if (ArenaPlayer.parsePlayer(event.getPlayer().getName()).getStatus() == Status.LOST
-                || ArenaPlayer.parsePlayer(event.getPlayer().getName()).getStatus() == Status.WATCH
-                || ArenaPlayer.parsePlayer(event.getPlayer().getName()).getStatus() == Status.LOUNGE
-                || ArenaPlayer.parsePlayer(event.getPlayer().getName()).getStatus() == Status.READY) {
+        final Status status = ArenaPlayer.parsePlayer(event.getPlayer()).getStatus();
+        if (status == Status.LOST
+                || status == Status.WATCH
+                || status == Status.LOUNGE
+                || status == Status.READY) {
             event.setCancelled(true);
             return;
         }
@@ -123,15 +119,9 @@ public class BlockListener implements Listener {
                 .getArenaByRegionLocation(new PABlockLocation(event.getBlock()
                         .getLocation()));
 
-        final List<String> list = arena.getArenaConfig().getStringList(
-                CFG.LISTS_WHITELIST.getNode() + ".break",
-                new ArrayList<String>());
+        final Material material = event.getBlock().getType();
 
-        if (!list.isEmpty()
-                && !list.contains(String.valueOf(event.getBlock().getType()
-                .name()))
-                && !list.contains(String.valueOf(event.getBlock().getType()
-                .name()))) {
+        if (!arena.getArenaConfig().isWhitelisted(BlockAction.BREAK, material)) {
             arena.msg(
                     event.getPlayer(),
                     Language.parse(arena, MSG.ERROR_WHITELIST_DISALLOWED,
@@ -147,13 +137,8 @@ public class BlockListener implements Listener {
             DEBUG.i("isprotected!", event.getPlayer());
             return;
         }
-        list.clear();
-        list.addAll(arena.getArenaConfig().getStringList(
-                CFG.LISTS_BLACKLIST.getNode() + ".break",
-                new ArrayList<String>()));
 
-        if (list.contains(String.valueOf(event.getBlock().getType().name()))
-                || list.contains(String.valueOf(event.getBlock().getType().name()))) {
+        if (arena.getArenaConfig().isBlacklisted(BlockAction.BREAK, material)) {
             arena.msg(
                     event.getPlayer(),
                     Language.parse(arena, MSG.ERROR_BLACKLIST_DISALLOWED,
@@ -176,8 +161,7 @@ public class BlockListener implements Listener {
         ArenaModuleManager.onBlockBreak(arena, event.getBlock());
 
 
-        Bukkit.getScheduler().scheduleSyncDelayedTask(PVPArena.instance,
-                new DamageResetRunnable(arena, event.getPlayer(), null), 1L);
+        arena.getDamageReset().add(event.getPlayer(), null);
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
@@ -407,7 +391,7 @@ public class BlockListener implements Listener {
             return;
         }
 
-        final ArenaPlayer arenaPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer arenaPlayer = ArenaPlayer.parsePlayer(player);
         if (asList(Status.LOST, Status.WATCH, Status.LOUNGE, Status.READY).contains(arenaPlayer.getStatus())) {
             event.setCancelled(true);
             return;
@@ -424,11 +408,7 @@ public class BlockListener implements Listener {
         }
 
 
-        List<String> list = arena.getArenaConfig().getStringList(
-                CFG.LISTS_WHITELIST.getNode() + ".place",
-                new ArrayList<>());
-
-        if (!list.isEmpty() && !list.contains(placedBlock.getType().name())) {
+        if (!arena.getArenaConfig().isWhitelisted(BlockAction.PLACE, placedBlock.getType())) {
             arena.msg(player, Language.parse(arena, MSG.ERROR_WHITELIST_DISALLOWED, Language.parse(arena, MSG.GENERAL_PLACE)));
             event.setCancelled(true);
             arena.getDebugger().i("not on whitelist. DENY!");
@@ -452,11 +432,7 @@ public class BlockListener implements Listener {
             return;
         }
 
-        list = arena.getArenaConfig().getStringList(
-                CFG.LISTS_BLACKLIST.getNode() + ".place",
-                new ArrayList<>());
-
-        if (list.contains(placedBlock.getType().name())) {
+        if (arena.getArenaConfig().isBlacklisted(BlockAction.PLACE, placedBlock.getType())) {
             arena.msg(player, Language.parse(arena, MSG.ERROR_BLACKLIST_DISALLOWED, Language.parse(arena, MSG.GENERAL_PLACE)));
             event.setCancelled(true);
             arena.getDebugger().i("on blacklist. DENY!");
@@ -15,8 +15,6 @@ import net.slipcor.pvparena.loadables.ArenaRegion.RegionProtection;
 import net.slipcor.pvparena.managers.ArenaManager;
 import net.slipcor.pvparena.managers.SpawnManager;
 import net.slipcor.pvparena.managers.StatisticsManager;
-import net.slipcor.pvparena.runnables.DamageResetRunnable;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.*;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -64,7 +62,7 @@ public class EntityListener implements Listener {
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onCreatureSpawn(final CreatureSpawnEvent event) {
-        DEBUG.i("onCreatureSpawn: " + event.getSpawnReason().name());
+        DEBUG.i(() -> "onCreatureSpawn: " + event.getSpawnReason().name());
         final Set<SpawnReason> naturals = new HashSet<>();
         naturals.add(SpawnReason.CHUNK_GEN);
         naturals.add(SpawnReason.DEFAULT);
@@ -129,7 +127,7 @@ public class EntityListener implements Listener {
         if ((!(entity instanceof Player))) {
             return; // no player
         }
-        final Arena arena = ArenaPlayer.parsePlayer(((Player) entity).getName())
+        final Arena arena = ArenaPlayer.parsePlayer((Player) entity)
                 .getArena();
         if (arena == null) {
             return;
@@ -141,7 +139,7 @@ public class EntityListener implements Listener {
             return;
         }
 
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player);
         final ArenaTeam team = aPlayer.getArenaTeam();
 
         if (team == null) {
@@ -162,10 +160,10 @@ public class EntityListener implements Listener {
         Entity eDamager = event.getDamager();
         final Entity eDamagee = event.getEntity();
 
-        DEBUG.i("onEntityDamageByEntity: cause: " + event.getCause().name()
+        DEBUG.i(() -> "onEntityDamageByEntity: cause: " + event.getCause().name()
                 + " : " + event.getDamager().toString() + " => "
                 + event.getEntity().toString());
-        DEBUG.i("damage: " + event.getDamage());
+        DEBUG.i(() -> "damage: " + event.getDamage());
 
         if (eDamager instanceof Projectile) {
             DEBUG.i("parsing projectile");
@@ -180,7 +178,7 @@ public class EntityListener implements Listener {
             DEBUG.i("=> " + eDamager);
         }
 
-        if (eDamager instanceof Player && ArenaPlayer.parsePlayer(((Player) eDamager).getName()).getStatus() == Status.LOST) {
+        if (eDamager instanceof Player && ArenaPlayer.parsePlayer((Player) eDamager).getStatus() == Status.LOST) {
             event.setCancelled(true);
             return;
         }
@@ -206,7 +204,7 @@ public class EntityListener implements Listener {
             return;
         }
 
-        final Arena arena = ArenaPlayer.parsePlayer(((Player) eDamagee).getName())
+        final Arena arena = ArenaPlayer.parsePlayer((Player) eDamagee)
                 .getArena();
         if (arena == null) {
             // defender no arena player => out
@@ -233,8 +231,8 @@ public class EntityListener implements Listener {
 
         boolean defTeam = false;
         boolean attTeam = false;
-        final ArenaPlayer apDefender = ArenaPlayer.parsePlayer(defender.getName());
-        final ArenaPlayer apAttacker = ArenaPlayer.parsePlayer(attacker.getName());
+        final ArenaPlayer apDefender = ArenaPlayer.parsePlayer(defender);
+        final ArenaPlayer apAttacker = ArenaPlayer.parsePlayer(attacker);
 
         for (ArenaTeam team : arena.getTeams()) {
             defTeam = defTeam || team.getTeamMembers().contains(
@@ -289,8 +287,7 @@ public class EntityListener implements Listener {
             return;
         }
 
-        Bukkit.getScheduler().scheduleSyncDelayedTask(PVPArena.instance,
-                new DamageResetRunnable(arena, attacker, defender), 1L);
+        arena.getDamageReset().add(attacker, defender);
 
         if (arena.getArenaConfig().getInt(CFG.PROTECT_SPAWN) > 0
                 && SpawnManager.isNearSpawn(arena, defender, arena
@@ -323,15 +320,15 @@ public class EntityListener implements Listener {
         final Entity eDamagee = event.getHitEntity();
 
 
-        if (eDamager instanceof Player && ArenaPlayer.parsePlayer(((Player) eDamager).getName()).getStatus() == Status.LOST) {
+        if (eDamager instanceof Player && ArenaPlayer.parsePlayer((Player) eDamager).getStatus() == Status.LOST) {
             return;
         }
 
         if(eDamager instanceof Player && eDamagee instanceof Player) {
             final Player attacker = (Player) eDamager;
             final Player defender = (Player) eDamagee;
-            final ArenaPlayer apDefender = ArenaPlayer.parsePlayer(defender.getName());
-            final ArenaPlayer apAttacker = ArenaPlayer.parsePlayer(attacker.getName());
+            final ArenaPlayer apDefender = ArenaPlayer.parsePlayer(defender);
+            final ArenaPlayer apAttacker = ArenaPlayer.parsePlayer(attacker);
             final Arena arena = apDefender.getArena();
 
             if (arena == null || apAttacker.getArena() == null || apDefender.getStatus() == Status.LOST || !arena.isFightInProgress()) {
@@ -347,19 +344,19 @@ public class EntityListener implements Listener {
     public void onEntityDamage(final EntityDamageEvent event) {
         final Entity entity = event.getEntity();
 
-        DEBUG.i("onEntityDamage: cause: " + event.getCause().name() + " : "
+        DEBUG.i(() -> "onEntityDamage: cause: " + event.getCause().name() + " : "
                 + event.getEntity().toString() + " => " + event.getEntity().getLocation());
 
         if (!(entity instanceof Player)) {
             return;
         }
 
-        if (ArenaPlayer.parsePlayer(((Player) entity).getName()).getStatus() == Status.LOST) {
+        if (ArenaPlayer.parsePlayer((Player) entity).getStatus() == Status.LOST) {
             event.setCancelled(true);
             return;
         }
 
-        final Arena arena = ArenaPlayer.parsePlayer(((Player) entity).getName())
+        final Arena arena = ArenaPlayer.parsePlayer((Player) entity)
                 .getArena();
         if (arena == null) {
             // defender no arena player => out
@@ -368,7 +365,7 @@ public class EntityListener implements Listener {
 
         final Player defender = (Player) entity;
 
-        final ArenaPlayer apDefender = ArenaPlayer.parsePlayer(defender.getName());
+        final ArenaPlayer apDefender = ArenaPlayer.parsePlayer(defender);
 
         if (arena.realEndRunner != null
                 || (!apDefender.getStatus().equals(Status.NULL) && !apDefender
@@ -392,7 +389,7 @@ public class EntityListener implements Listener {
             if (arena.hasEntity(event.getEntity())) {
 
                 Player player = arena.getEntityOwner(event.getEntity());
-                ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+                ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player);
 
                 if (event.getEntity().equals(player)) {
                     event.setCancelled(true);
@@ -453,8 +450,8 @@ public class EntityListener implements Listener {
         ArenaPlayer shooter;
 
         try {
-            shooter = ArenaPlayer.parsePlayer(((Player) event.getEntity()
-                    .getShooter()).getName());
+            shooter = ArenaPlayer.parsePlayer((Player) event.getEntity()
+                    .getShooter());
         } catch (Exception e) {
             return;
         }
@@ -477,7 +474,7 @@ public class EntityListener implements Listener {
                 DEBUG.i("skipping non-player "+e.getName());
                 continue;
             }
-            final ArenaPlayer damagee = ArenaPlayer.parsePlayer(((Player) e).getName());
+            final ArenaPlayer damagee = ArenaPlayer.parsePlayer((Player) e);
 
             if (damagee.getArena() == null || shooter.getArena() == null ||
                     (damagee.getArena() != shooter.getArena()) ||
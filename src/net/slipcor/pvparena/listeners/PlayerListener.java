@@ -7,6 +7,7 @@ import net.slipcor.pvparena.arena.ArenaPlayer.Status;
 import net.slipcor.pvparena.arena.ArenaTeam;
 import net.slipcor.pvparena.arena.PlayerState;
 import net.slipcor.pvparena.classes.PABlockLocation;
+import net.slipcor.pvparena.classes.PAChatRoute;
 import net.slipcor.pvparena.classes.PACheck;
 import net.slipcor.pvparena.classes.PASpawn;
 import net.slipcor.pvparena.commands.PAA_Setup;
@@ -24,6 +25,7 @@ import net.slipcor.pvparena.loadables.ArenaRegion;
 import net.slipcor.pvparena.loadables.ArenaRegion.RegionProtection;
 import net.slipcor.pvparena.loadables.ArenaRegion.RegionType;
 import net.slipcor.pvparena.managers.ArenaManager;
+import net.slipcor.pvparena.managers.ChatManager;
 import net.slipcor.pvparena.managers.InventoryManager;
 import net.slipcor.pvparena.managers.SpawnManager;
 import net.slipcor.pvparena.managers.TeamManager;
@@ -91,7 +93,7 @@ public class PlayerListener implements Listener {
             return false;
         }
 
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player);
 
         if ((aPlayer.getStatus() == Status.WATCH || aPlayer.getStatus() == Status.LOST) &&
                 arena.getArenaConfig().getBoolean(CFG.PERMS_SPECINTERACT)) {
@@ -126,7 +128,7 @@ public class PlayerListener implements Listener {
                 return false;
             }
         }
-        if (ArenaPlayer.parsePlayer(player.getName()).getStatus() == Status.LOST) {
+        if (ArenaPlayer.parsePlayer(player).getStatus() == Status.LOST) {
             DEBUG.i("cancelling because LOST", player);
             event.setCancelled(true);
             return true;
@@ -144,35 +146,30 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        // async - only use the published route, never the arena itself
+        final PAChatRoute route = ChatManager.getRoute(player);
 
-        if (arena == null) {
+        if (route == null) {
             return; // no fighting player => OUT
         }
-        final ArenaTeam team = aPlayer.getArenaTeam();
-        if (team == null ||
-                aPlayer.getStatus() == Status.DEAD && aPlayer.get() == null ||
-                aPlayer.getStatus() == Status.LOST ||
-                aPlayer.getStatus() == Status.WATCH) {
-            if (!arena.getArenaConfig().getBoolean(CFG.PERMS_SPECTALK)) {
+        if (route.isSpectating()) {
+            if (!route.isSpecTalk()) {
                 event.setCancelled(true);
             }
             return; // no fighting player => OUT
         }
-        arena.getDebugger().i("fighting player chatting!", player);
-        final String sTeam = team.getName();
+        route.getArena().getDebugger().i("fighting player chatting!", player);
 
-        if (!arena.getArenaConfig().getBoolean(CFG.CHAT_ONLYPRIVATE)) {
-            if (!arena.getArenaConfig().getBoolean(CFG.CHAT_ENABLED)) {
+        if (!route.isOnlyPrivate()) {
+            if (!route.isChatEnabled()) {
                 return; // no chat editing
             }
 
-            if (aPlayer.isPublicChatting()) {
+            if (route.isPublicChatting()) {
                 return; // player not privately chatting
             }
 
-            String toGlobal = arena.getArenaConfig().getString(CFG.CHAT_TOGLOBAL);
+            String toGlobal = route.getToGlobal();
 
             if (!toGlobal.equalsIgnoreCase("none")) {
                 if (event.getMessage().toLowerCase().startsWith(
@@ -182,22 +179,18 @@ public class PlayerListener implements Listener {
                 }
             }
 
-            arena.tellTeam(sTeam, event.getMessage(), team.getColor(),
-                    event.getPlayer());
+            ChatManager.tellTeam(route, player, event.getMessage());
             event.setCancelled(true);
             return;
         }
 
-        if (arena.getArenaConfig().getBoolean(CFG.CHAT_ENABLED)
-                && !aPlayer.isPublicChatting()) {
-            arena.tellTeam(sTeam, event.getMessage(), team.getColor(),
-                    event.getPlayer());
+        if (route.isChatEnabled() && !route.isPublicChatting()) {
+            ChatManager.tellTeam(route, player, event.getMessage());
             event.setCancelled(true);
             return;
         }
 
-        arena.broadcastColored(event.getMessage(), team.getColor(),
-                event.getPlayer()); //
+        ChatManager.broadcastColored(route, player, event.getMessage());
         event.setCancelled(true);
     }
 
@@ -210,7 +203,7 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        final Arena arena = ArenaPlayer.parsePlayer(player).getArena();
         if (arena == null || player.isOp() || PVPArena.hasAdminPerms(player)
                 || PVPArena.hasCreatePerms(player, arena)) {
             return; // no fighting player => OUT
@@ -266,7 +259,7 @@ public class PlayerListener implements Listener {
 
         final Player player = (Player) event.getWhoClicked();
 
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        final Arena arena = ArenaPlayer.parsePlayer(player).getArena();
         if (arena == null || player.isOp() || PVPArena.hasAdminPerms(player)
                 || PVPArena.hasCreatePerms(player, arena)) {
             return; // no fighting player => OUT
@@ -296,7 +289,7 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player);
         final Arena arena = aPlayer.getArena();
         if (arena == null) {
             return; // no fighting player => OUT
@@ -356,7 +349,7 @@ public class PlayerListener implements Listener {
     @EventHandler(priority = EventPriority.LOW)
     public void onPlayerDeath(final PlayerDeathEvent event) {
         final Player player = event.getEntity();
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        final Arena arena = ArenaPlayer.parsePlayer(player).getArena();
         if (arena == null) {
             return;
         }
@@ -380,7 +373,7 @@ public class PlayerListener implements Listener {
             cause = (EntityDamageEvent) eEvent;
         }
 
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player);
         final ArenaTeam team = aPlayer.getArenaTeam();
 
         final String playerName = (team == null) ? player.getName() : team.colorizePlayer(player);
@@ -443,7 +436,7 @@ public class PlayerListener implements Listener {
 
         final Player player = (Player) event.getEntity();
 
-        final ArenaPlayer ap = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer ap = ArenaPlayer.parsePlayer(player);
 
         if (ap.getStatus() == Status.READY || ap.getStatus() == Status.LOUNGE || ap.getArena() != null && !ap.getArena().getArenaConfig().getBoolean(CFG.PLAYER_HUNGER)) {
             event.setCancelled(true);
@@ -465,13 +458,13 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        DEBUG.i("event pre cancelled: " + event.isCancelled(),
+        DEBUG.i(() -> "event pre cancelled: " + event.isCancelled(),
                 player);
 
         Arena arena = null;
 
         if (event.hasBlock()) {
-            DEBUG.i("block: " + event.getClickedBlock().getType().name(), player);
+            DEBUG.i(() -> "block: " + event.getClickedBlock().getType().name(), player);
 
             arena = ArenaManager.getArenaByRegionLocation(new PABlockLocation(
                     event.getClickedBlock().getLocation()));
@@ -499,7 +492,7 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        arena = ArenaPlayer.parsePlayer(player).getArena();
         if (arena == null) {
             DEBUG.i("returning: #4", player);
             ArenaManager.trySignJoin(event, player);
@@ -508,14 +501,14 @@ public class PlayerListener implements Listener {
 
         PACheck.handleInteract(arena, player, event, event.getClickedBlock());
 
-        arena.getDebugger().i("event post cancelled: " + event.isCancelled(),
+        arena.getDebugger().i(() -> "event post cancelled: " + event.isCancelled(),
                 player);
 
         //TODO: seriously, why?
         final boolean whyMe = arena.isFightInProgress()
                 && !PVPArena.instance.getAgm().allowsJoinInBattle(arena);
 
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player);
         final ArenaTeam team = aPlayer.getArenaTeam();
 
         if (aPlayer.getStatus() == Status.WATCH &&
@@ -677,7 +670,7 @@ public class PlayerListener implements Listener {
                     }
                 }
 
-                ArenaPlayer.parsePlayer(player.getName()).setStatus(
+                ArenaPlayer.parsePlayer(player).setStatus(
                         Status.FIGHT);
 
                 ArenaModuleManager.lateJoin(arena, player);
@@ -728,7 +721,7 @@ public class PlayerListener implements Listener {
 
     @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
     public void onPlayerItemConsume(final PlayerItemConsumeEvent event) {
-        ArenaPlayer arenaPlayer = ArenaPlayer.parsePlayer(event.getPlayer().getName());
+        ArenaPlayer arenaPlayer = ArenaPlayer.parsePlayer(event.getPlayer());
         if (arenaPlayer.getArena() != null && arenaPlayer.getStatus() != Status.FIGHT) {
             event.setCancelled(true);
         }
@@ -742,7 +735,7 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player);
 
         aPlayer.setArena(null);
         // instantiate and/or reset a player. This fixes issues with leaving
@@ -765,7 +758,7 @@ public class PlayerListener implements Listener {
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onPlayerKicked(final PlayerKickEvent event) {
         final Player player = event.getPlayer();
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        final Arena arena = ArenaPlayer.parsePlayer(player).getArena();
         if (arena == null) {
             return; // no fighting player => OUT
         }
@@ -775,7 +768,7 @@ public class PlayerListener implements Listener {
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onPlayerRespawn(final PlayerRespawnEvent event) {
         final Player player = event.getPlayer();
-        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+        final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player);
         // aPlayer.setArena(null);
         // instantiate and/or reset a player. This fixes issues with leaving
         // players and makes sure every player is an arenaplayer ^^
@@ -806,7 +799,7 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        final Arena arena = ArenaPlayer.parsePlayer(player).getArena();
 
         if (arena != null) {
 
@@ -829,17 +822,17 @@ public class PlayerListener implements Listener {
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onPlayerQuit(final PlayerQuitEvent event) {
         final Player player = event.getPlayer();
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
-        if (arena == null) {
-            return; // no fighting player => OUT
+        final Arena arena = ArenaPlayer.parsePlayer(player).getArena();
+        if (arena != null) {
+            arena.playerLeave(player, CFG.TP_EXIT, false, true, false);
         }
-        arena.playerLeave(player, CFG.TP_EXIT, false, true, false);
+        ArenaPlayer.unloadPlayer(player.getName());
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onPlayerTeleport(final PlayerTeleportEvent event) {
         final Player player = event.getPlayer();
-        Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        Arena arena = ArenaPlayer.parsePlayer(player).getArena();
 
         if (arena == null) {
             if (event.getTo() == null) {
@@ -880,13 +873,13 @@ public class PlayerListener implements Listener {
         arena.getDebugger().i("aimed location: " + event.getTo(), player);
 
 
-        if (event.getCause() == PlayerTeleportEvent.TeleportCause.ENDER_PEARL && ArenaPlayer.parsePlayer(player.getName()).getStatus() != Status.FIGHT) {
+        if (event.getCause() == PlayerTeleportEvent.TeleportCause.ENDER_PEARL && ArenaPlayer.parsePlayer(player).getStatus() != Status.FIGHT) {
             arena.getDebugger().i("onPlayerTeleport: ender pearl when not fighting, cancelling!", player);
             event.setCancelled(true); // cancel and out
             return;
         }
 
-        if (ArenaPlayer.parsePlayer(player.getName()).isTelePass()
+        if (ArenaPlayer.parsePlayer(player).isTelePass()
                 || player.hasPermission("pvparena.telepass")) {
 
             maybeFixInvisibility(arena, player);
@@ -948,7 +941,7 @@ public class PlayerListener implements Listener {
     public void onPlayerVelocity(final PlayerVelocityEvent event) {
         final Player player = event.getPlayer();
 
-        final Arena arena = ArenaPlayer.parsePlayer(player.getName()).getArena();
+        final Arena arena = ArenaPlayer.parsePlayer(player).getArena();
         if (arena == null) {
             return; // no fighting player or no powerups => OUT
         }
@@ -959,7 +952,7 @@ public class PlayerListener implements Listener {
     public void onPlayerVelocity(final ProjectileLaunchEvent event) {
         if (event.getEntity().getShooter() instanceof Player) {
             final Player player = (Player) event.getEntity().getShooter();
-            final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player.getName());
+            final ArenaPlayer aPlayer = ArenaPlayer.parsePlayer(player);
             final Arena arena = aPlayer.getArena();
             if (arena == null) {
                 return; // no fighting player => OUT
@@ -11,6 +11,7 @@ import net.slipcor.pvparena.core.Debug;
 import net.slipcor.pvparena.core.Language;
 import net.slipcor.pvparena.core.Language.MSG;
 import net.slipcor.pvparena.goals.*;
+import net.slipcor.pvparena.loadables.ArenaHookIndex.GoalHook;
 import net.slipcor.pvparena.ncloader.NCBLoader;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
@@ -39,6 +40,8 @@ public class ArenaGoalManager {
     private List<ArenaGoal> types;
     private final NCBLoader<ArenaGoal> loader;
     private static final Debug DEBUG = new Debug(31);
+    // the result if no goal checks an event, only ever read
+    private static final PACheck NO_CHECK = new PACheck();
 
     /**
      * create an arena type instance
@@ -102,50 +105,72 @@ public class ArenaGoalManager {
     }
 
     public static PACheck checkBreak(Arena arena, BlockBreakEvent event) {
+        final ArenaGoal[] goals = arena.getHookIndex().getGoals(GoalHook.CHECK_BREAK);
+        if (goals.length == 0) {
+            return NO_CHECK;
+        }
         PACheck result = new PACheck();
-        for (final ArenaGoal type : arena.getGoals()) {
+        for (final ArenaGoal type : goals) {
             result = type.checkBreak(result, arena, event);
         }
         return result;
     }
 
     public static PACheck checkCraft(Arena arena, CraftItemEvent event) {
+        final ArenaGoal[] goals = arena.getHookIndex().getGoals(GoalHook.CHECK_CRAFT);
+        if (goals.length == 0) {
+            return NO_CHECK;
+        }
         PACheck result = new PACheck();
-        for (final ArenaGoal type : arena.getGoals()) {
+        for (final ArenaGoal type : goals) {
             result = type.checkCraft(result, arena, event);
         }
         return result;
     }
 
     public static PACheck checkDrop(Arena arena, PlayerDropItemEvent event) {
+        final ArenaGoal[] goals = arena.getHookIndex().getGoals(GoalHook.CHECK_DROP);
+        if (goals.length == 0) {
+            return NO_CHECK;
+        }
         PACheck result = new PACheck();
-        for (final ArenaGoal type : arena.getGoals()) {
+        for (final ArenaGoal type : goals) {
             result = type.checkDrop(result, arena, event);
         }
         return result;
     }
 
     public static PACheck checkInventory(Arena arena, InventoryClickEvent event) {
+        final ArenaGoal[] goals = arena.getHookIndex().getGoals(GoalHook.CHECK_INVENTORY);
+        if (goals.length == 0) {
+            return NO_CHECK;
+        }
         PACheck result = new PACheck();
-        for (final ArenaGoal type : arena.getGoals()) {
+        for (final ArenaGoal type : goals) {
             result = type.checkInventory(result, arena, event);
         }
         return result;
     }
 
     public static PACheck checkPickup(Arena arena, EntityPickupItemEvent event) {
+        final ArenaGoal[] goals = arena.getHookIndex().getGoals(GoalHook.CHECK_PICKUP);
+        if (goals.length == 0 || !(event.getEntity() instanceof Player)) {
+            return NO_CHECK;
+        }
         PACheck result = new PACheck();
-        if (event.getEntity() instanceof Player) {
-            for (final ArenaGoal type : arena.getGoals()) {
-                result = type.checkPickup(result, arena, event);
-            }
+        for (final ArenaGoal type : goals) {
+            result = type.checkPickup(result, arena, event);
         }
         return result;
     }
 
     public static PACheck checkPlace(Arena arena, BlockPlaceEvent event) {
+        final ArenaGoal[] goals = arena.getHookIndex().getGoals(GoalHook.CHECK_PLACE);
+        if (goals.length == 0) {
+            return NO_CHECK;
+        }
         PACheck result = new PACheck();
-        for (final ArenaGoal type : arena.getGoals()) {
+        for (final ArenaGoal type : goals) {
             result = type.checkPlace(result, arena, event);
         }
         return result;
@@ -508,7 +533,7 @@ public class ArenaGoalManager {
 
     public static void onPlayerPickUp(final Arena arena, final EntityPickupItemEvent event) {
         if (event.getEntity() instanceof Player) {
-            for (final ArenaGoal goal : arena.getGoals()) {
+            for (final ArenaGoal goal : arena.getHookIndex().getGoals(GoalHook.PLAYER_PICKUP)) {
                 goal.onPlayerPickUp(event);
             }
         }
@@ -0,0 +1,175 @@
+package net.slipcor.pvparena.loadables;
+
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.classes.PACheck;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Hanging;
+import org.bukkit.entity.Player;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.*;
+import org.bukkit.event.inventory.CraftItemEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerVelocityEvent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * Arena Hook Index class
+ * </pre>
+ * <p/>
+ * The goals and modules of an arena per event hook, holding only those that
+ * override the hook. Events skip the goals and modules that would run the
+ * empty default. An index is never changed, the arena builds a new one when
+ * its goals, modules or round change.
+ *
+ * @author slipcor
+ */
+
+public final class ArenaHookIndex {
+    private static final ArenaGoal[] NO_GOALS = new ArenaGoal[0];
+    private static final ArenaModule[] NO_MODULES = new ArenaModule[0];
+
+    // which hooks a class overrides, by hook ordinal
+    private static final Map<Class<?>, boolean[]> OVERRIDES = new ConcurrentHashMap<>();
+
+    private final ArenaGoal[][] goals = new ArenaGoal[GoalHook.values().length][];
+    private final ArenaModule[][] modules = new ArenaModule[ModuleHook.values().length][];
+
+    /**
+     * the event hooks of goals
+     */
+    public enum GoalHook {
+        CHECK_BREAK("checkBreak", PACheck.class, Arena.class, BlockBreakEvent.class),
+        CHECK_CRAFT("checkCraft", PACheck.class, Arena.class, CraftItemEvent.class),
+        CHECK_DROP("checkDrop", PACheck.class, Arena.class, PlayerDropItemEvent.class),
+        CHECK_INVENTORY("checkInventory", PACheck.class, Arena.class, InventoryClickEvent.class),
+        CHECK_PICKUP("checkPickup", PACheck.class, Arena.class, EntityPickupItemEvent.class),
+        CHECK_PLACE("checkPlace", PACheck.class, Arena.class, BlockPlaceEvent.class),
+        PLAYER_PICKUP("onPlayerPickUp", EntityPickupItemEvent.class);
+
+        private final String method;
+        private final Class<?>[] parameters;
+
+        GoalHook(final String method, final Class<?>... parameters) {
+            this.method = method;
+            this.parameters = parameters;
+        }
+    }
+
+    /**
+     * the event hooks of modules
+     */
+    public enum ModuleHook {
+        BLOCK_BREAK("onBlockBreak", Block.class),
+        BLOCK_CHANGE("onBlockChange", Block.class, BlockState.class),
+        BLOCK_PISTON("onBlockPiston", Block.class),
+        BLOCK_PLACE("onBlockPlace", Block.class, Material.class),
+        ENTITY_DAMAGE_BY_ENTITY("onEntityDamageByEntity", Player.class, Player.class, EntityDamageByEntityEvent.class),
+        PROJECTILE_HIT("onProjectileHit", Player.class, Player.class, ProjectileHitEvent.class),
+        ENTITY_EXPLODE("onEntityExplode", EntityExplodeEvent.class),
+        ENTITY_REGAIN_HEALTH("onEntityRegainHealth", EntityRegainHealthEvent.class),
+        PAINTING_BREAK("onPaintingBreak", Hanging.class, EntityType.class),
+        PLAYER_INTERACT("onPlayerInteract", PlayerInteractEvent.class),
+        PLAYER_PICKUP_ITEM("onPlayerPickupItem", EntityPickupItemEvent.class),
+        PLAYER_VELOCITY("onPlayerVelocity", PlayerVelocityEvent.class);
+
+        private final String method;
+        private final Class<?>[] parameters;
+
+        ModuleHook(final String method, final Class<?>... parameters) {
+            this.method = method;
+            this.parameters = parameters;
+        }
+    }
+
+    /**
+     * build the hook index of goals and modules
+     *
+     * @param goalSet   the active goals, in calling order
+     * @param moduleSet the active modules, in calling order
+     */
+    public ArenaHookIndex(final Collection<ArenaGoal> goalSet, final Collection<ArenaModule> moduleSet) {
+        for (final GoalHook hook : GoalHook.values()) {
+            final List<ArenaGoal> result = new ArrayList<>();
+            for (final ArenaGoal goal : goalSet) {
+                if (getGoalOverrides(goal.getClass())[hook.ordinal()]) {
+                    result.add(goal);
+                }
+            }
+            goals[hook.ordinal()] = result.isEmpty() ? NO_GOALS : result.toArray(NO_GOALS);
+        }
+        for (final ModuleHook hook : ModuleHook.values()) {
+            final List<ArenaModule> result = new ArrayList<>();
+            for (final ArenaModule mod : moduleSet) {
+                if (getModuleOverrides(mod.getClass())[hook.ordinal()]) {
+                    result.add(mod);
+                }
+            }
+            modules[hook.ordinal()] = result.isEmpty() ? NO_MODULES : result.toArray(NO_MODULES);
+        }
+    }
+
+    /**
+     * @param hook the hook to call
+     * @return the goals overriding the hook, not to be modified
+     */
+    public ArenaGoal[] getGoals(final GoalHook hook) {
+        return goals[hook.ordinal()];
+    }
+
+    /**
+     * @param hook the hook to call
+     * @return the modules overriding the hook, not to be modified
+     */
+    public ArenaModule[] getModules(final ModuleHook hook) {
+        return modules[hook.ordinal()];
+    }
+
+    private static boolean[] getGoalOverrides(final Class<?> type) {
+        return OVERRIDES.computeIfAbsent(type, k -> {
+            final GoalHook[] hooks = GoalHook.values();
+            final boolean[] result = new boolean[hooks.length];
+            for (final GoalHook hook : hooks) {
+                result[hook.ordinal()] = overrides(k, ArenaGoal.class, hook.method, hook.parameters);
+            }
+            return result;
+        });
+    }
+
+    private static boolean[] getModuleOverrides(final Class<?> type) {
+        return OVERRIDES.computeIfAbsent(type, k -> {
+            final ModuleHook[] hooks = ModuleHook.values();
+            final boolean[] result = new boolean[hooks.length];
+            for (final ModuleHook hook : hooks) {
+                result[hook.ordinal()] = overrides(k, ArenaModule.class, hook.method, hook.parameters);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * check if a class brings its own version of a method
+     *
+     * @return true if the method is not the one of the base class, or if that
+     * cannot be told
+     */
+    private static boolean overrides(final Class<?> type, final Class<?> base,
+                                     final String method, final Class<?>[] parameters) {
+        try {
+            return type.getMethod(method, parameters).getDeclaringClass() != base;
+        } catch (final NoSuchMethodException | SecurityException e) {
+            return true;
+        }
+    }
+}
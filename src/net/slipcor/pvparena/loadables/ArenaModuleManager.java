@@ -5,6 +5,7 @@ import net.slipcor.pvparena.arena.Arena;
 import net.slipcor.pvparena.arena.ArenaClass;
 import net.slipcor.pvparena.arena.ArenaTeam;
 import net.slipcor.pvparena.core.Debug;
+import net.slipcor.pvparena.loadables.ArenaHookIndex.ModuleHook;
 import net.slipcor.pvparena.modules.*;
 import net.slipcor.pvparena.ncloader.NCBLoader;
 import org.bukkit.Material;
@@ -143,62 +144,62 @@ public class ArenaModuleManager {
     }
 
     public static void onBlockBreak(final Arena arena, final Block block) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getHookIndex().getModules(ModuleHook.BLOCK_BREAK)) {
             mod.onBlockBreak(block);
         }
     }
 
     public static void onBlockChange(final Arena arena, final Block block, final BlockState state) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getHookIndex().getModules(ModuleHook.BLOCK_CHANGE)) {
             mod.onBlockChange(block, state);
         }
     }
 
     public static void onBlockPiston(final Arena arena, final Block block) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getHookIndex().getModules(ModuleHook.BLOCK_PISTON)) {
             mod.onBlockPiston(block);
         }
     }
 
     public static void onBlockPlace(final Arena arena, final Block block, final Material mat) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getHookIndex().getModules(ModuleHook.BLOCK_PLACE)) {
             mod.onBlockPlace(block, mat);
         }
     }
 
     public static void onEntityDamageByEntity(final Arena arena, final Player attacker,
                                               final Player defender, final EntityDamageByEntityEvent event) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getHookIndex().getModules(ModuleHook.ENTITY_DAMAGE_BY_ENTITY)) {
             mod.onEntityDamageByEntity(attacker, defender, event);
         }
     }
 
     public static void onProjectileHit(final Arena arena, final Player attacker, final Player defender, final ProjectileHitEvent event) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getHookIndex().getModules(ModuleHook.PROJECTILE_HIT)) {
             mod.onProjectileHit(attacker, defender, event);
         }
     }
 
     public static void onEntityExplode(final Arena arena, final EntityExplodeEvent event) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getHookIndex().getModules(ModuleHook.ENTITY_EXPLODE)) {
             mod.onEntityExplode(event);
         }
     }
 
     public static void onEntityRegainHealth(final Arena arena, final EntityRegainHealthEvent event) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getHookIndex().getModules(ModuleHook.ENTITY_REGAIN_HEALTH)) {
             mod.onEntityRegainHealth(event);
         }
     }
 
     public static void onPaintingBreak(final Arena arena, final Hanging painting, final EntityType type) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getHookIndex().getModules(ModuleHook.PAINTING_BREAK)) {
             mod.onPaintingBreak(painting, type);
         }
     }
 
     public static boolean onPlayerInteract(final Arena arena, final PlayerInteractEvent event) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getHookIndex().getModules(ModuleHook.PLAYER_INTERACT)) {
             if (mod.onPlayerInteract(event)) {
                 return true;
             }
@@ -208,14 +209,14 @@ public class ArenaModuleManager {
 
     public static void onPlayerPickupItem(final Arena arena, final EntityPickupItemEvent event) {
         if (event.getEntity() instanceof Player) {
-            for (final ArenaModule mod : arena.getMods()) {
+            for (final ArenaModule mod : arena.getHookIndex().getModules(ModuleHook.PLAYER_PICKUP_ITEM)) {
                 mod.onPlayerPickupItem(event);
             }
         }
     }
 
     public static void onPlayerVelocity(final Arena arena, final PlayerVelocityEvent event) {
-        for (final ArenaModule mod : arena.getMods()) {
+        for (final ArenaModule mod : arena.getHookIndex().getModules(ModuleHook.PLAYER_VELOCITY)) {
             mod.onPlayerVelocity(event);
         }
     }
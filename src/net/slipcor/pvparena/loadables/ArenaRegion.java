@@ -16,14 +16,14 @@ import net.slipcor.pvparena.core.Language.MSG;
 import net.slipcor.pvparena.listeners.PlayerListener;
 import net.slipcor.pvparena.managers.ArenaManager;
 import net.slipcor.pvparena.managers.SpawnManager;
+import net.slipcor.pvparena.runnables.RegionEntitySweepRunnable;
 import net.slipcor.pvparena.runnables.RegionRunnable;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
-import org.bukkit.entity.Entity;
-import org.bukkit.entity.Hanging;
+import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.entity.EntityDamageEvent;
@@ -43,6 +43,8 @@ public class ArenaRegion {
     private String name;
     private RegionType type;
     private BukkitTask runningTask;
+    private boolean scheduled;
+    private RegionEntitySweepRunnable sweep;
     private final Set<RegionFlag> flags = new HashSet<>();
     private final Set<RegionProtection> protections = new HashSet<>();
     private final Map<String, Location> playerLocations = new HashMap<>();
@@ -376,11 +378,25 @@ public class ArenaRegion {
             }
         }
 
+        if (this.arena.getArenaConfig().getBoolean(CFG.GENERAL_REGIONENGINE)) {
+            // one arena wide runner checks all scheduled regions at once
+            this.scheduled = true;
+            this.arena.initRegionRunner();
+            return;
+        }
+
         final RegionRunnable regionRunner = new RegionRunnable(this);
         final int timer = this.arena.getArenaConfig().getInt(CFG.TIME_REGIONTIMER);
         this.runningTask = regionRunner.runTaskTimer(PVPArena.instance, timer, timer);
     }
 
+    /**
+     * @return true if the arena region runner should tick this region
+     */
+    public boolean isScheduled() {
+        return scheduled;
+    }
+
     public boolean isInNoWoolSet(final Block block) {
         return NOWOOLS.contains(block.getType());
     }
@@ -444,30 +460,33 @@ public class ArenaRegion {
         removeEntities();
     }
 
+    /**
+     * clear the rest of an entity sweep that is spread over ticks, so it does
+     * not run into the next match
+     */
+    public void finishSweep() {
+        if (sweep != null) {
+            sweep.finish();
+            sweep = null;
+        }
+    }
+
     public void removeEntities() {
-        if (getWorld() == null || getWorld().getEntities().isEmpty()) {
+        final World world = getWorld();
+        if (world == null) {
             return;
         }
 
-        for (final Entity entity : getWorld().getEntities()) {
-            if (entity instanceof Player || !shape.contains(new PABlockLocation(entity.getLocation()))) {
-                continue;
-            }
-
-            if (entity instanceof Hanging) {
-                continue;
-            }
-
-            if (entity.hasMetadata("NPC")) {
-                continue;
-            }
-
-            if (arena.getArenaConfig().getStringList(CFG.GENERAL_REGIONCLEAREXCEPTIONS.getNode(), new ArrayList<String>()).contains(entity.getType().name())) {
-                continue;
-            }
-
-            entity.remove();
+        finishSweep();
+        final RegionEntitySweepRunnable newSweep = new RegionEntitySweepRunnable(this, world, getClearExceptions());
+        final int perTick = arena.getArenaConfig().getInt(CFG.GENERAL_REGIONCLEARCHUNKS);
+        if (perTick <= 0 || newSweep.getChunkCount() <= perTick) {
+            newSweep.sweep(Integer.MAX_VALUE);
+        } else {
+            newSweep.start(perTick);
+            sweep = newSweep;
         }
+
         if (type == RegionType.JOIN || type == RegionType.WATCH) {
             return;
         }
@@ -475,6 +494,23 @@ public class ArenaRegion {
         if(this.runningTask != null && !this.runningTask.isCancelled()) {
             this.runningTask.cancel();
         }
+        this.scheduled = false;
+    }
+
+    /**
+     * @return the entity types that removeEntities keeps
+     */
+    private Set<EntityType> getClearExceptions() {
+        final Set<EntityType> result = EnumSet.noneOf(EntityType.class);
+        for (final String name : arena.getArenaConfig().getStringList(
+                CFG.GENERAL_REGIONCLEAREXCEPTIONS.getNode(), new ArrayList<String>())) {
+            try {
+                result.add(EntityType.valueOf(name));
+            } catch (final IllegalArgumentException e) {
+                debug.i("unknown entity type in " + CFG.GENERAL_REGIONCLEAREXCEPTIONS.getNode() + ": " + name);
+            }
+        }
+        return result;
     }
 
     public void saveToConfig() {
@@ -501,178 +537,201 @@ public class ArenaRegion {
                 continue;
             }
             final PABlockLocation pLoc = new PABlockLocation(ap.get().getLocation());
-            if (flags.contains(RegionFlag.DEATH) && shape.contains(pLoc)) {
-                Arena.pmsg(ap.get(), Language.parse(arena, MSG.NOTICE_YOU_DEATH));
-                for (final ArenaGoal goal : arena.getGoals()) {
-                    if (goal.getName().endsWith("DeathMatch")) {
-                        if (goal.lifeMap.containsKey(ap.getName())) {
-                            final int lives = goal.lifeMap.get(ap.getName()) + 1;
-                            goal.lifeMap.put(ap.getName(), lives);
-                        } else if (goal.getLifeMap().containsKey(ap.getArenaTeam().getName())) {
-                            final int lives = goal.lifeMap.get(ap.getArenaTeam().getName()) + 1;
-                            goal.lifeMap.put(ap.getArenaTeam().getName(), lives);
-                        }
+            final boolean insideOfType = !needsEscapeCheck(ap) || isInsideAnyOfType(pLoc);
+            if (!tickPlayer(ap, pLoc, shape.contains(pLoc), insideOfType)) {
+                return;
+            }
+        }
+        tickJoin();
+    }
+
+    /**
+     * does the player's status require them to stay inside a region of this
+     * region's type?
+     *
+     * @param ap the player to check
+     * @return true if tickPlayer would check for an escape
+     */
+    public boolean needsEscapeCheck(final ArenaPlayer ap) {
+        if (type == RegionType.BATTLE) {
+            return ap.getStatus() == Status.FIGHT;
+        }
+        if (type == RegionType.WATCH) {
+            return ap.getStatus() == Status.WATCH;
+        }
+        if (type == RegionType.LOUNGE) {
+            return ap.getStatus() == Status.READY || ap.getStatus() == Status.LOUNGE;
+        }
+        return false;
+    }
+
+    private boolean isInsideAnyOfType(final PABlockLocation pLoc) {
+        for (final ArenaRegion region : arena.getRegionsByType(type)) {
+            if (region.shape.contains(pLoc)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * apply the region flags and escape checks to one player
+     *
+     * @param ap           the player to check
+     * @param pLoc         the player's block location
+     * @param inside       whether this region contains the player
+     * @param insideOfType whether any region of this region's type contains the player
+     * @return false if the remaining players should not be checked this tick
+     */
+    public boolean tickPlayer(final ArenaPlayer ap, final PABlockLocation pLoc,
+                              final boolean inside, final boolean insideOfType) {
+        if (flags.contains(RegionFlag.DEATH) && inside) {
+            Arena.pmsg(ap.get(), Language.parse(arena, MSG.NOTICE_YOU_DEATH));
+            for (final ArenaGoal goal : arena.getGoals()) {
+                if (goal.getName().endsWith("DeathMatch")) {
+                    if (goal.lifeMap.containsKey(ap.getName())) {
+                        final int lives = goal.lifeMap.get(ap.getName()) + 1;
+                        goal.lifeMap.put(ap.getName(), lives);
+                    } else if (goal.getLifeMap().containsKey(ap.getArenaTeam().getName())) {
+                        final int lives = goal.lifeMap.get(ap.getArenaTeam().getName()) + 1;
+                        goal.lifeMap.put(ap.getArenaTeam().getName(), lives);
                     }
                 }
-                ap.get().setLastDamageCause(
-                        new EntityDamageEvent(ap.get(), DamageCause.CUSTOM,
-                                1003.0));
-                ap.get().damage(1000);
             }
-            if (flags.contains(RegionFlag.WIN) && shape.contains(pLoc)) {
+            ap.get().setLastDamageCause(
+                    new EntityDamageEvent(ap.get(), DamageCause.CUSTOM,
+                            1003.0));
+            ap.get().damage(1000);
+        }
+        if (flags.contains(RegionFlag.WIN) && inside) {
+            for (final ArenaTeam team : arena.getTeams()) {
+                if (!arena.isFreeForAll()
+                        && team.getTeamMembers().contains(ap)) {
+                    // skip winning team
+                    continue;
+                }
+                for (final ArenaPlayer ap2 : team.getTeamMembers()) {
+                    if (arena.isFreeForAll()
+                            && ap2.getName().equals(ap.getName())) {
+                        continue;
+                    }
+                    if (ap2.getStatus() == Status.FIGHT) {
+                        Bukkit.getWorld(world).strikeLightningEffect(
+                                ap2.get().getLocation());
+                        final EntityDamageEvent event = new EntityDamageEvent(
+                                ap2.get(), DamageCause.LIGHTNING, 10.0);
+                        PlayerListener.finallyKillPlayer(arena,
+                                ap2.get(), event);
+                    }
+                }
+                return false;
+            }
+        }
+        if (flags.contains(RegionFlag.LOSE) && inside) {
+            if (arena.isFreeForAll()) {
+                if (ap.getStatus() == Status.FIGHT) {
+                    Bukkit.getWorld(world).strikeLightningEffect(
+                            ap.get().getLocation());
+                    final EntityDamageEvent event = new EntityDamageEvent(
+                            ap.get(), DamageCause.LIGHTNING, 10.0);
+                    PlayerListener
+                            .finallyKillPlayer(arena, ap.get(), event);
+                }
+            } else {
                 for (final ArenaTeam team : arena.getTeams()) {
-                    if (!arena.isFreeForAll()
-                            && team.getTeamMembers().contains(ap)) {
-                        // skip winning team
+                    if (!team.getTeamMembers().contains(ap)) {
+                        // skip winner
                         continue;
                     }
                     for (final ArenaPlayer ap2 : team.getTeamMembers()) {
-                        if (arena.isFreeForAll()
-                                && ap2.getName().equals(ap.getName())) {
-                            continue;
-                        }
                         if (ap2.getStatus() == Status.FIGHT) {
-                            Bukkit.getWorld(world).strikeLightningEffect(
-                                    ap2.get().getLocation());
+                            Bukkit.getWorld(world)
+                                    .strikeLightningEffect(
+                                            ap2.get().getLocation());
                             final EntityDamageEvent event = new EntityDamageEvent(
-                                    ap2.get(), DamageCause.LIGHTNING, 10.0);
+                                    ap2.get(), DamageCause.LIGHTNING,10.0);
                             PlayerListener.finallyKillPlayer(arena,
                                     ap2.get(), event);
                         }
                     }
-                    return;
-                }
-            }
-            if (flags.contains(RegionFlag.LOSE) && shape.contains(pLoc)) {
-                if (arena.isFreeForAll()) {
-                    if (ap.getStatus() == Status.FIGHT) {
-                        Bukkit.getWorld(world).strikeLightningEffect(
-                                ap.get().getLocation());
-                        final EntityDamageEvent event = new EntityDamageEvent(
-                                ap.get(), DamageCause.LIGHTNING, 10.0);
-                        PlayerListener
-                                .finallyKillPlayer(arena, ap.get(), event);
-                    }
-                } else {
-                    for (final ArenaTeam team : arena.getTeams()) {
-                        if (!team.getTeamMembers().contains(ap)) {
-                            // skip winner
-                            continue;
-                        }
-                        for (final ArenaPlayer ap2 : team.getTeamMembers()) {
-                            if (ap2.getStatus() == Status.FIGHT) {
-                                Bukkit.getWorld(world)
-                                        .strikeLightningEffect(
-                                                ap2.get().getLocation());
-                                final EntityDamageEvent event = new EntityDamageEvent(
-                                        ap2.get(), DamageCause.LIGHTNING,10.0);
-                                PlayerListener.finallyKillPlayer(arena,
-                                        ap2.get(), event);
-                            }
-                        }
-                        return;
-                    }
+                    return false;
                 }
             }
-            if (flags.contains(RegionFlag.NOCAMP)) {
-                if (shape.contains(pLoc)) {
-                    final Location loc = playerLocations.get(ap.getName());
-                    if (loc == null) {
-                        Arena.pmsg(ap.get(),
-                                Language.parse(arena, MSG.NOTICE_YOU_NOCAMP));
-                    } else {
-                        if (loc.distance(ap.get().getLocation()) < 3) {
-                            ap.get().setLastDamageCause(
-                                    new EntityDamageEvent(ap.get(),
-                                            DamageCause.CUSTOM, arena.getArenaConfig().getInt(CFG.DAMAGE_SPAWNCAMP)));
-                            ap.get().damage(
-                                    arena.getArenaConfig().getInt(
-                                            CFG.DAMAGE_SPAWNCAMP));
-                        }
-                    }
-                    playerLocations.put(ap.getName(), ap.get()
-                            .getLocation().getBlock().getLocation());
+        }
+        if (flags.contains(RegionFlag.NOCAMP)) {
+            if (inside) {
+                final Location loc = playerLocations.get(ap.getName());
+                if (loc == null) {
+                    Arena.pmsg(ap.get(),
+                            Language.parse(arena, MSG.NOTICE_YOU_NOCAMP));
                 } else {
-                    playerLocations.remove(ap.getName());
-                }
-            }
-            if (type == RegionType.BATTLE) {
-                if (ap.getStatus() != Status.FIGHT) {
-                    continue;
-                }
-
-                boolean found = false;
-
-                for (final ArenaRegion region : arena.getRegionsByType(RegionType.BATTLE)) {
-                    if (region.shape.contains(pLoc)) {
-                        found = true;
-                        break;
-                    }
-                }
-
-                if (!found) {
-                    debug.i("escape due to '!found' #1");
-                    debug.i("location: "+pLoc.toString());
-                    Arena.pmsg(ap.get(), Language.parse(arena, MSG.NOTICE_YOU_ESCAPED));
-                    if (arena.getArenaConfig().getBoolean(
-                            CFG.GENERAL_LEAVEDEATH)) {
+                    if (loc.distance(ap.get().getLocation()) < 3) {
                         ap.get().setLastDamageCause(
                                 new EntityDamageEvent(ap.get(),
-                                        DamageCause.CUSTOM, 1004.0));
-                        // ap.get().setHealth(0);
-                        ap.get().damage(1000);
-                    } else {
-                        arena.playerLeave(ap.get(), CFG.TP_EXIT, false, false, false);
-                    }
-                }
-            } else if (type == RegionType.WATCH) {
-
-                if (ap.getStatus() != Status.WATCH) {
-                    continue;
-                }
-                Set<ArenaRegion> regions = arena.getRegionsByType(RegionType.WATCH);
-
-                boolean found = false;
-
-                for (ArenaRegion region : regions) {
-                    if (region.getShape().contains(pLoc)) {
-                        found = true;
-                        break;
+                                        DamageCause.CUSTOM, arena.getArenaConfig().getInt(CFG.DAMAGE_SPAWNCAMP)));
+                        ap.get().damage(
+                                arena.getArenaConfig().getInt(
+                                        CFG.DAMAGE_SPAWNCAMP));
                     }
                 }
+                playerLocations.put(ap.getName(), ap.get()
+                        .getLocation().getBlock().getLocation());
+            } else {
+                playerLocations.remove(ap.getName());
+            }
+        }
+        if (type == RegionType.BATTLE) {
+            if (ap.getStatus() != Status.FIGHT) {
+                return true;
+            }
 
-                if (!found) {
-                    debug.i("escape due to '!found' #2");
-                    Arena.pmsg(ap.get(), Language.parse(arena, MSG.NOTICE_YOU_ESCAPED));
-                    debug.i("location: "+pLoc.toString());
+            if (!insideOfType) {
+                debug.i("escape due to '!found' #1");
+                debug.i(() -> "location: " + pLoc);
+                Arena.pmsg(ap.get(), Language.parse(arena, MSG.NOTICE_YOU_ESCAPED));
+                if (arena.getArenaConfig().getBoolean(
+                        CFG.GENERAL_LEAVEDEATH)) {
+                    ap.get().setLastDamageCause(
+                            new EntityDamageEvent(ap.get(),
+                                    DamageCause.CUSTOM, 1004.0));
+                    // ap.get().setHealth(0);
+                    ap.get().damage(1000);
+                } else {
                     arena.playerLeave(ap.get(), CFG.TP_EXIT, false, false, false);
                 }
-            } else if (type == RegionType.LOUNGE) {
-                if (ap.getStatus() != Status.READY
-                        && ap.getStatus() != Status.LOUNGE) {
-                    continue;
-                }
-
-                debug.i("LOUNGE TICK");
-                Set<ArenaRegion> regions = arena.getRegionsByType(RegionType.LOUNGE);
-
-                boolean found = false;
+            }
+        } else if (type == RegionType.WATCH) {
 
-                for (ArenaRegion region : regions) {
-                    if (region.getShape().contains(pLoc)) {
-                        found = true;
-                        break;
-                    }
-                }
+            if (ap.getStatus() != Status.WATCH) {
+                return true;
+            }
+            if (!insideOfType) {
+                debug.i("escape due to '!found' #2");
+                Arena.pmsg(ap.get(), Language.parse(arena, MSG.NOTICE_YOU_ESCAPED));
+                debug.i(() -> "location: " + pLoc);
+                arena.playerLeave(ap.get(), CFG.TP_EXIT, false, false, false);
+            }
+        } else if (type == RegionType.LOUNGE) {
+            if (ap.getStatus() != Status.READY
+                    && ap.getStatus() != Status.LOUNGE) {
+                return true;
+            }
 
-                if (!found) {
-                    debug.i("escape due to '!found' #3");
-                    Arena.pmsg(ap.get(), Language.parse(arena, MSG.NOTICE_YOU_ESCAPED));
-                    debug.i("location: "+pLoc.toString());
-                    arena.playerLeave(ap.get(), CFG.TP_EXIT, false, false, false);
-                }
+            debug.i("LOUNGE TICK");
+            if (!insideOfType) {
+                debug.i("escape due to '!found' #3");
+                Arena.pmsg(ap.get(), Language.parse(arena, MSG.NOTICE_YOU_ESCAPED));
+                debug.i(() -> "location: " + pLoc);
+                arena.playerLeave(ap.get(), CFG.TP_EXIT, false, false, false);
             }
         }
+        return true;
+    }
+
+    /**
+     * force players standing inside a join region into the arena
+     */
+    public void tickJoin() {
         if (arena.getArenaConfig().getBoolean(CFG.JOIN_FORCE)
                 && type == RegionType.JOIN && !arena.isFightInProgress()
                 && !arena.isLocked()) {
@@ -707,6 +766,8 @@ public class ArenaRegion {
 
             locs[0].setY(shape.getCenter().getY() - (height >> 1));
             locs[1].setY(locs[0].getY() + height);
+            shape.invalidateGeometry();
+            ArenaManager.invalidateRegionIndex();
 
             return Language.parse(arena, MSG.REGION_HEIGHT, value);
         }
@@ -727,6 +788,8 @@ public class ArenaRegion {
             locs[1].setX(loc.getX() + radius);
             locs[1].setY(loc.getY() + radius);
             locs[1].setZ(loc.getZ() + radius);
+            shape.invalidateGeometry();
+            ArenaManager.invalidateRegionIndex();
 
             return Language.parse(arena, MSG.REGION_RADIUS, value);
         }
@@ -20,11 +20,55 @@ import java.util.List;
  */
 
 public abstract class ArenaRegionShape extends NCBLoadable {
+    private Geometry geometry;
 
     protected ArenaRegionShape(final String name) {
         super(name);
     }
 
+    /**
+     * get the geometry of the region corners. It is only recalculated when
+     * the corners have been replaced or changed.
+     *
+     * @param region the region of this shape, both corners have to be set
+     * @return the current geometry
+     */
+    protected final Geometry getGeometry(final ArenaRegion region) {
+        final Geometry current = geometry;
+        if (current != null && current.matches(region.locs)) {
+            return current;
+        }
+        geometry = new Geometry(region.locs[0], region.locs[1], getBoundsType());
+        return geometry;
+    }
+
+    /**
+     * the cheap part of a contains check: compare the world ids and the
+     * bounding box of the shape
+     *
+     * @param region the region of this shape, both corners have to be set
+     * @param loc    the location to check
+     * @return the geometry for the exact check, null if the location is out of bounds
+     */
+    protected final Geometry getGeometryIfInBounds(final ArenaRegion region, final PABlockLocation loc) {
+        final Geometry current = getGeometry(region);
+        return current.isSameWorld(loc) && current.isInBounds(loc) ? current : null;
+    }
+
+    /**
+     * @return how the bounding box is derived from the region corners
+     */
+    protected BoundsType getBoundsType() {
+        return BoundsType.BOX;
+    }
+
+    /**
+     * drop the cached geometry after the region corners changed
+     */
+    public void invalidateGeometry() {
+        geometry = null;
+    }
+
 
     public abstract boolean contains(PABlockLocation loc);
 
@@ -72,4 +116,143 @@ public abstract class ArenaRegionShape extends NCBLoadable {
     public abstract void extend(BlockFace direction, int parseInt);
 
     public abstract void initialize(ArenaRegion region);
+
+    /**
+     * The bounding box of a shape
+     *
+     * <pre>
+     * - BOX = the box spanned by the corners
+     * - SPHERE = the cube around the sphere between the corners
+     * - CYLINDER = the box around the cylinder between the corners
+     * </pre>
+     */
+    protected enum BoundsType {
+        BOX, SPHERE, CYLINDER
+    }
+
+    /**
+     * The primitive values of a pair of region corners, as the shapes use them
+     */
+    protected static final class Geometry {
+        public final int worldId;
+        public final int x0;
+        public final int y0;
+        public final int z0;
+        public final int x1;
+        public final int y1;
+        public final int z1;
+        public final int centerX;
+        public final int centerY;
+        public final int centerZ;
+        /**
+         * a quarter of the squared corner distance - the squared sphere radius
+         */
+        public final double radiusSquared;
+        /**
+         * a quarter of the squared horizontal corner distance - the squared cylinder radius
+         */
+        public final double flatRadiusSquared;
+        public final int minX;
+        public final int minY;
+        public final int minZ;
+        public final int maxX;
+        public final int maxY;
+        public final int maxZ;
+
+        private final PABlockLocation first;
+        private final PABlockLocation second;
+
+        private Geometry(final PABlockLocation first, final PABlockLocation second, final BoundsType bounds) {
+            this.first = first;
+            this.second = second;
+            worldId = first.getWorldId();
+            x0 = first.getX();
+            y0 = first.getY();
+            z0 = first.getZ();
+            x1 = second.getX();
+            y1 = second.getY();
+            z1 = second.getZ();
+            // same rounding as PABlockLocation.getMidpoint
+            centerX = (x0 + x1) / 2;
+            centerY = (y0 + y1) / 2;
+            centerZ = (z0 + z1) / 2;
+            final double dX = x0 - x1;
+            final double dY = y0 - y1;
+            final double dZ = z0 - z1;
+            radiusSquared = (dX * dX + dY * dY + dZ * dZ) / 4;
+            flatRadiusSquared = (dX * dX + dZ * dZ) / 4;
+
+            if (bounds == BoundsType.SPHERE) {
+                final int radius = (int) Math.ceil(Math.sqrt(radiusSquared));
+                minX = centerX - radius;
+                minY = centerY - radius;
+                minZ = centerZ - radius;
+                maxX = centerX + radius;
+                maxY = centerY + radius;
+                maxZ = centerZ + radius;
+            } else if (bounds == BoundsType.CYLINDER) {
+                final int radius = (int) Math.ceil(Math.sqrt(flatRadiusSquared));
+                minX = centerX - radius;
+                minY = y0;
+                minZ = centerZ - radius;
+                maxX = centerX + radius;
+                maxY = y1;
+                maxZ = centerZ + radius;
+            } else {
+                // the corners are sanitized, the first one is the minimum
+                minX = x0;
+                minY = y0;
+                minZ = z0;
+                maxX = x1;
+                maxY = y1;
+                maxZ = z1;
+            }
+        }
+
+        private boolean matches(final PABlockLocation[] locs) {
+            return locs[0] == first && locs[1] == second
+                    && x0 == first.getX() && y0 == first.getY() && z0 == first.getZ()
+                    && x1 == second.getX() && y1 == second.getY() && z1 == second.getZ();
+        }
+
+        /**
+         * @param loc the location to check
+         * @return true if the location is in the world of the corners
+         */
+        public boolean isSameWorld(final PABlockLocation loc) {
+            return worldId == loc.getWorldId();
+        }
+
+        /**
+         * @param loc the location to check
+         * @return true if the location is inside the bounding box of the shape
+         */
+        public boolean isInBounds(final PABlockLocation loc) {
+            final int x = loc.getX();
+            final int y = loc.getY();
+            final int z = loc.getZ();
+            return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+        }
+
+        /**
+         * @param loc the location to measure
+         * @return the squared distance to the center
+         */
+        public double distanceSquared(final PABlockLocation loc) {
+            final double dX = loc.getX() - centerX;
+            final double dY = loc.getY() - centerY;
+            final double dZ = loc.getZ() - centerZ;
+            return dX * dX + dY * dY + dZ * dZ;
+        }
+
+        /**
+         * @param loc the location to measure
+         * @return the squared horizontal distance to the center
+         */
+        public double flatDistanceSquared(final PABlockLocation loc) {
+            final double dX = loc.getX() - centerX;
+            final double dZ = loc.getZ() - centerZ;
+            return dX * dX + dZ * dZ;
+        }
+    }
 }
@@ -4,6 +4,7 @@ import net.slipcor.pvparena.PVPArena;
 import net.slipcor.pvparena.arena.Arena;
 import net.slipcor.pvparena.classes.PABlockLocation;
 import net.slipcor.pvparena.classes.PACheck;
+import net.slipcor.pvparena.classes.PARegionIndex;
 import net.slipcor.pvparena.commands.AbstractArenaCommand;
 import net.slipcor.pvparena.commands.PAA_Edit;
 import net.slipcor.pvparena.commands.PAA_Setup;
@@ -50,6 +51,9 @@ public final class ArenaManager {
 
     private static boolean usingShortcuts;
 
+    private static PARegionIndex regionIndex;
+    private static int regionVersion;
+
     private ArenaManager() {
     }
 
@@ -208,14 +212,12 @@ public final class ArenaManager {
      * @return an arena instance if found, null otherwise
      */
     public static Arena getArenaByRegionLocation(final PABlockLocation location) {
-        for (final Arena arena : ARENAS.values()) {
-            if (arena.isLocked()) {
+        for (final ArenaRegion region : getRegionIndex().getCandidates(location)) {
+            if (region.getArena().isLocked()) {
                 continue;
             }
-            for (final ArenaRegion region : arena.getRegions()) {
-                if (region.getShape().contains(location)) {
-                    return arena;
-                }
+            if (region.getShape().contains(location)) {
+                return region.getArena();
             }
         }
         return null;
@@ -223,15 +225,13 @@ public final class ArenaManager {
 
     public static Arena getArenaByProtectedRegionLocation(
             final PABlockLocation location, final RegionProtection regionProtection) {
-        for (final Arena arena : ARENAS.values()) {
-            if (!arena.getArenaConfig().getBoolean(CFG.PROTECT_ENABLED)) {
+        for (final ArenaRegion region : getRegionIndex().getCandidates(location)) {
+            if (!region.getArena().getArenaConfig().getBoolean(CFG.PROTECT_ENABLED)) {
                 continue;
             }
-            for (final ArenaRegion region : arena.getRegions()) {
-                if (region.getShape().contains(location)
-                        && region.getProtections().contains(regionProtection)) {
-                    return arena;
-                }
+            if (region.getProtections().contains(regionProtection)
+                    && region.getShape().contains(location)) {
+                return region.getArena();
             }
         }
         return null;
@@ -240,19 +240,49 @@ public final class ArenaManager {
     public static Set<Arena> getArenasByRegionLocation(
             final PABlockLocation location) {
         final Set<Arena> result = new HashSet<>();
-        for (final Arena arena : ARENAS.values()) {
-            if (arena.isLocked()) {
+        for (final ArenaRegion region : getRegionIndex().getCandidates(location)) {
+            if (region.getArena().isLocked() || result.contains(region.getArena())) {
                 continue;
             }
-            for (final ArenaRegion region : arena.getRegions()) {
-                if (region.getShape().contains(location)) {
-                    result.add(arena);
-                }
+            if (region.getShape().contains(location)) {
+                result.add(region.getArena());
             }
         }
         return result;
     }
 
+    /**
+     * get the region index, rebuilding it if regions changed since the last lookup
+     *
+     * @return the current region index
+     */
+    private static PARegionIndex getRegionIndex() {
+        if (regionIndex == null) {
+            DEBUG.i("rebuilding region index");
+            regionIndex = PARegionIndex.build(ARENAS.values());
+        }
+        return regionIndex;
+    }
+
+    /**
+     * mark the region index as outdated - to be called whenever a region is
+     * added, removed, moved or resized
+     */
+    public static void invalidateRegionIndex() {
+        regionIndex = null;
+        regionVersion++;
+    }
+
+    /**
+     * get a counter that changes whenever the region index is invalidated, so
+     * that other caches of region containment can tell they are outdated
+     *
+     * @return the current region version
+     */
+    public static int getRegionVersion() {
+        return regionVersion;
+    }
+
     /**
      * return the arenas
      *
@@ -332,6 +362,7 @@ public final class ArenaManager {
         DEBUG.i("loading arena " + configFile);
         final Arena arena = new Arena(configFile);
         ARENAS.put(arena.getName().toLowerCase(), arena);
+        invalidateRegionIndex();
     }
 
     /**
@@ -352,12 +383,16 @@ public final class ArenaManager {
         }
 
         ARENAS.put(arena.getName().toLowerCase(), arena);
+        invalidateRegionIndex();
         return true;
     }
 
     public static void removeArena(final Arena arena, final boolean deleteConfig) {
         arena.stop(true);
+        arena.getScheduler().shutdown();
         ARENAS.remove(arena.getName().toLowerCase());
+        invalidateRegionIndex();
+        StatisticsManager.removeArena(arena);
         if (deleteConfig) {
             arena.getArenaConfig().delete();
         }
@@ -0,0 +1,222 @@
+package net.slipcor.pvparena.managers;
+
+import net.slipcor.pvparena.PVPArena;
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.arena.ArenaPlayer;
+import net.slipcor.pvparena.arena.ArenaTeam;
+import net.slipcor.pvparena.classes.PAChatRoute;
+import net.slipcor.pvparena.core.Language;
+import net.slipcor.pvparena.core.Language.MSG;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * <pre>
+ * Chat Manager class
+ * </pre>
+ * <p/>
+ * Provides static methods to route arena chat. The async chat handler only
+ * reads the published PAChatRoutes and queues its messages, they are sent on
+ * the next tick, all lines of a recipient at once. The routes of an arena are
+ * published again right away when a player joins, leaves or changes team or
+ * status, the periodic publish only catches what was missed.
+ *
+ * @author slipcor
+ */
+
+public final class ChatManager {
+    private static final int PUBLISH_INTERVAL = 5;
+
+    private static volatile Map<UUID, PAChatRoute> routes = Collections.emptyMap();
+    private static final Queue<Delivery> QUEUE = new ConcurrentLinkedQueue<>();
+    private static BukkitTask task;
+    private static int ticks;
+
+    private ChatManager() {
+    }
+
+    /**
+     * start publishing routes and sending queued messages
+     */
+    public static void start() {
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(PVPArena.instance, ChatManager::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * send what is left and stop - to be called on disable
+     */
+    public static void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        deliver();
+        routes = Collections.emptyMap();
+    }
+
+    /**
+     * get the current route of a player, safe to call from any thread
+     *
+     * @param player the chatting player
+     * @return the route, null if the player is not part of an arena
+     */
+    public static PAChatRoute getRoute(final Player player) {
+        return routes.get(player.getUniqueId());
+    }
+
+    /**
+     * queue a message to the team of a player
+     *
+     * @param route  the route of the player
+     * @param player the chatting player
+     * @param msg    the message
+     */
+    public static void tellTeam(final PAChatRoute route, final Player player, final String msg) {
+        final String reset = route.isColorNick() ? "" : ChatColor.RESET.toString();
+        QUEUE.add(new Delivery(route.getArena(), route.getTeamRecipients(),
+                route.getTeamColor() + "[" + route.getTeamName() + "] " + reset + player.getName()
+                        + ChatColor.RESET + ": " + msg, '@' + route.getTeamName() + ": " + msg, false));
+    }
+
+    /**
+     * queue a message to the whole arena of a player, prefixed with the
+     * player name
+     *
+     * @param route  the route of the player
+     * @param player the chatting player
+     * @param msg    the message
+     */
+    public static void broadcastColored(final PAChatRoute route, final Player player, final String msg) {
+        final String sColor = route.isColorNick() ? route.getTeamColor().toString() : "";
+        QUEUE.add(new Delivery(route.getArena(), route.getArenaRecipients(),
+                sColor + player.getName() + ChatColor.WHITE + ": " + msg.replace("&", "%%&%%"),
+                "@all: " + msg, true));
+    }
+
+    private static void tick() {
+        deliver();
+        if (++ticks >= PUBLISH_INTERVAL) {
+            ticks = 0;
+            publish();
+        }
+    }
+
+    /**
+     * send all queued messages, one call per recipient
+     */
+    private static void deliver() {
+        if (QUEUE.isEmpty()) {
+            return;
+        }
+        final Map<Player, List<String>> lines = new LinkedHashMap<>();
+        Delivery delivery;
+        while ((delivery = QUEUE.poll()) != null) {
+            delivery.arena.getDebugger().i(delivery.log);
+            final String line = delivery.framed ? Language.parse(delivery.arena, MSG.MESSAGES_GENERAL,
+                    delivery.arena.getPrefix(), delivery.message) : delivery.message;
+            for (final Player recipient : delivery.recipients) {
+                lines.computeIfAbsent(recipient, k -> new ArrayList<>()).add(line);
+            }
+        }
+        for (final Map.Entry<Player, List<String>> entry : lines.entrySet()) {
+            if (entry.getKey().isOnline()) {
+                entry.getKey().sendMessage(entry.getValue().toArray(new String[0]));
+            }
+        }
+    }
+
+    /**
+     * rebuild the routes of all arena players
+     */
+    private static void publish() {
+        final Map<UUID, PAChatRoute> result = new HashMap<>();
+        for (final Arena arena : ArenaManager.getArenas()) {
+            addRoutes(arena, result);
+        }
+        routes = Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * rebuild the routes of one arena right away, e.g. after a player joined,
+     * left or changed team or status - to be called on the main thread
+     *
+     * @param arena the arena that changed, may be null
+     */
+    public static void republish(final Arena arena) {
+        if (arena == null || task == null || !Bukkit.isPrimaryThread()) {
+            return;
+        }
+        final Map<UUID, PAChatRoute> result = new HashMap<>();
+        for (final Map.Entry<UUID, PAChatRoute> route : routes.entrySet()) {
+            if (route.getValue().getArena() != arena) {
+                result.put(route.getKey(), route.getValue());
+            }
+        }
+        addRoutes(arena, result);
+        routes = Collections.unmodifiableMap(result);
+    }
+
+    private static void addRoutes(final Arena arena, final Map<UUID, PAChatRoute> result) {
+        final List<Player> arenaRecipients = new ArrayList<>();
+        for (final ArenaPlayer aPlayer : arena.getEveryone()) {
+            final Player player = aPlayer.get();
+            if (player != null && aPlayer.getArena() == arena) {
+                arenaRecipients.add(player);
+            }
+        }
+        if (arenaRecipients.isEmpty()) {
+            return;
+        }
+        final List<Player> arenaView = Collections.unmodifiableList(arenaRecipients);
+
+        final Map<ArenaTeam, List<Player>> teamRecipients = new HashMap<>();
+        for (final ArenaTeam team : arena.getTeams()) {
+            final List<Player> members = new ArrayList<>();
+            for (final ArenaPlayer aPlayer : team.getTeamMembers()) {
+                final Player player = aPlayer.get();
+                if (player != null) {
+                    members.add(player);
+                }
+            }
+            teamRecipients.put(team, Collections.unmodifiableList(members));
+        }
+
+        for (final ArenaPlayer aPlayer : arena.getEveryone()) {
+            final Player player = aPlayer.get();
+            if (player == null || aPlayer.getArena() != arena) {
+                continue;
+            }
+            final ArenaTeam team = aPlayer.getArenaTeam();
+            final List<Player> members = team == null ? null : teamRecipients.get(team);
+            result.put(player.getUniqueId(), new PAChatRoute(aPlayer,
+                    members == null ? Collections.<Player>emptyList() : members, arenaView));
+        }
+    }
+
+    /**
+     * a message waiting to be sent
+     */
+    private static final class Delivery {
+        private final Arena arena;
+        private final List<Player> recipients;
+        private final String message;
+        private final String log;
+        private final boolean framed;
+
+        private Delivery(final Arena arena, final List<Player> recipients,
+                         final String message, final String log, final boolean framed) {
+            this.arena = arena;
+            this.recipients = recipients;
+            this.message = message;
+            this.log = log;
+            this.framed = framed;
+        }
+    }
+}
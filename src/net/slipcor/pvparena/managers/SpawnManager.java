@@ -11,7 +11,6 @@ import net.slipcor.pvparena.classes.PALocation;
 import net.slipcor.pvparena.classes.PASpawn;
 import net.slipcor.pvparena.core.Config;
 import net.slipcor.pvparena.core.Config.CFG;
-import net.slipcor.pvparena.core.Debug;
 import net.slipcor.pvparena.core.StringParser;
 import net.slipcor.pvparena.loadables.ArenaRegion;
 import net.slipcor.pvparena.loadables.ArenaRegion.RegionType;
@@ -22,7 +21,6 @@ import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.BlockFace;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
 
@@ -36,51 +34,9 @@ import java.util.*;
  */
 
 public final class SpawnManager {
-    private static final Debug DEBUG = new Debug(27);
-
     private SpawnManager() {
     }
 
-    private static String calculateFarSpawn(final String[] taken,
-                                            final Set<PASpawn> available,
-                                            final Set<PASpawn> total) {
-        DEBUG.i("--------------------");
-        DEBUG.i("calculating a spawn!");
-        DEBUG.i("--------------------");
-        String far = null;
-        for (final PASpawn s : available) {
-            far = s.getName();
-            break;
-        }
-        DEBUG.i("last resort: " + far);
-
-        double diff = 0;
-        for (final PASpawn s : available) {
-            DEBUG.i("> checking " + s.getName());
-            double tempDiff = 0;
-            for (int i = 0; i < taken.length && taken[i] != null; i++) {
-                for (final PASpawn tt : total) {
-                    for (final PASpawn aa : available) {
-                        if (tt.getName().equals(taken[i])
-                                && aa.getName().equals(s.getName())) {
-                            tempDiff += tt.getLocation().getDistanceSquared(aa.getLocation());
-                            DEBUG.i(">> tempDiff: " + tempDiff);
-                        }
-                    }
-                }
-
-            }
-
-            if (tempDiff > diff) {
-                DEBUG.i("-> diff");
-                diff = tempDiff;
-                far = s.getName();
-            }
-        }
-
-        return far;
-    }
-
     public static void distribute(final Arena arena, final ArenaTeam team) {
         final Set<ArenaRegion> ars = arena.getRegionsByType(RegionType.SPAWN);
 
@@ -90,70 +46,45 @@ public final class SpawnManager {
         }
 
         if (arena.getArenaConfig().getBoolean(CFG.GENERAL_QUICKSPAWN)) {
-            class TeleportLater extends BukkitRunnable {
-                private final Set<ArenaPlayer> teamMembers = new HashSet<>();
-                private final boolean classSpawn;
-                private int pos;
-
-                private PASpawn[] locations;
-
-                TeleportLater(final Set<ArenaPlayer> set) {
-                    for (final ArenaPlayer ap : set) {
-                        teamMembers.add(ap);
-                    }
-                    classSpawn = arena.getArenaConfig().getBoolean(CFG.GENERAL_CLASSSPAWN);
+            final boolean classSpawn = arena.getArenaConfig().getBoolean(CFG.GENERAL_CLASSSPAWN);
+            final Set<PASpawn> spawns = new HashSet<>();
+            if (arena.isFreeForAll()) {
+                if ("free".equals(team.getName())) {
+                    spawns.addAll(SpawnManager.getPASpawnsStartingWith(arena, "spawn"));
+                } else {
+                    spawns.addAll(SpawnManager.getPASpawnsStartingWith(arena, team.getName()));
                 }
+            } else {
+                spawns.addAll(SpawnManager.getPASpawnsStartingWith(arena, team.getName() + "spawn"));
+            }
+            arena.getDebugger().i("read spawns for '" + team.getName() + "'; size: " + spawns.size());
+            final PASpawn[] locations = new PASpawn[spawns.size()];
+            int pos = 0;
+            for (final PASpawn spawn : spawns) {
+                arena.getDebugger().i("- " + spawn.getName());
+                locations[pos++] = spawn;
+            }
 
-                @Override
-                public void run() {
-
-                    if (locations == null) {
-                        final Set<PASpawn> spawns = new HashSet<>();
-                        if (arena.isFreeForAll()) {
-                            if ("free".equals(team.getName())) {
-                                spawns.addAll(SpawnManager.getPASpawnsStartingWith(arena, "spawn"));
-                            } else {
-                                spawns.addAll(SpawnManager.getPASpawnsStartingWith(arena, team.getName()));
-                            }
-                        } else {
-                            spawns.addAll(SpawnManager.getPASpawnsStartingWith(arena, team.getName() + "spawn"));
-                        }
-                        arena.getDebugger().i("read spawns for '" + team.getName() + "'; size: " + spawns.size());
-                        locations = new PASpawn[spawns.size()];
-                        int pos = 0;
-                        for (final PASpawn spawn : spawns) {
-                            arena.getDebugger().i("- " + spawn.getName());
-                            locations[pos++] = spawn;
-                        }
-                    }
-
-
-                    for (final ArenaPlayer ap : teamMembers) {
-                        if (classSpawn) {
-
-
-                            final Set<PASpawn> spawns = SpawnManager.getPASpawnsStartingWith(arena, team.getName() + ap.getArenaClass().getName() + "spawn");
+            pos = 0;
+            for (final ArenaPlayer ap : new ArrayList<>(team.getTeamMembers())) {
+                final int index = pos++;
+                arena.getTeleportStaging().stage(() -> {
+                    if (classSpawn) {
+                        final Set<PASpawn> classSpawns = SpawnManager.getPASpawnsStartingWith(arena, team.getName() + ap.getArenaClass().getName() + "spawn");
 
-                            int pos = new Random().nextInt(spawns.size());
-                            for (final PASpawn spawn : spawns) {
-                                if (--pos < 0) {
-                                    arena.tpPlayerToCoordName(ap, spawn.getName());
-                                    break;
-                                }
+                        int random = new Random().nextInt(classSpawns.size());
+                        for (final PASpawn spawn : classSpawns) {
+                            if (--random < 0) {
+                                arena.tpPlayerToCoordName(ap, spawn.getName());
+                                break;
                             }
-
-                        } else {
-                            arena.tpPlayerToCoordName(ap, locations[pos++ % locations.length].getName());
                         }
-                        ap.setStatus(Status.FIGHT);
-                        teamMembers.remove(ap);
-                        return;
+                    } else {
+                        arena.tpPlayerToCoordName(ap, locations[index % locations.length].getName());
                     }
-                    cancel();
-                }
-
+                    ap.setStatus(Status.FIGHT);
+                });
             }
-            new TeleportLater(team.getTeamMembers()).runTaskTimer(PVPArena.instance, 1L, 1L);
 
             return;
         }
@@ -187,51 +118,31 @@ public final class SpawnManager {
             return;
         }
 
-        class TeleportLater extends BukkitRunnable {
-            private final Set<ArenaPlayer> set = new HashSet<>();
-            private final boolean classSpawn;
-
-            TeleportLater(final Set<ArenaPlayer> set) {
-                for (final ArenaPlayer ap : set) {
-                    this.set.add(ap);
-                }
-                classSpawn = arena.getArenaConfig().getBoolean(CFG.GENERAL_CLASSSPAWN);
-            }
-
-            @Override
-            public void run() {
-                for (final ArenaPlayer ap : set) {
-                    ap.setStatus(Status.FIGHT);
-                    if (classSpawn) {
-
-
-                        final Set<PASpawn> spawns = SpawnManager.getPASpawnsStartingWith(arena, ap.getArenaTeam().getName() + ap.getArenaClass().getName() + "spawn");
-
-                        int pos = new Random().nextInt(spawns.size());
-                        for (final PASpawn spawn : spawns) {
-                            if (--pos < 0) {
-                                arena.tpPlayerToCoordName(ap, spawn.getName());
-                                break;
-                            }
-                        }
+        final boolean classSpawn = arena.getArenaConfig().getBoolean(CFG.GENERAL_CLASSSPAWN);
+        for (final ArenaPlayer ap : new ArrayList<>(set)) {
+            arena.getTeleportStaging().stage(() -> {
+                ap.setStatus(Status.FIGHT);
+                if (classSpawn) {
+                    final Set<PASpawn> classSpawns = SpawnManager.getPASpawnsStartingWith(arena, ap.getArenaTeam().getName() + ap.getArenaClass().getName() + "spawn");
 
-                    } else {
-                        for (final PASpawn s : spawns) {
-                            arena.tpPlayerToCoordName(ap, s.getName());
-                            if (spawns.size() > 1) {
-                                spawns.remove(s);
-                            }
+                    int pos = new Random().nextInt(classSpawns.size());
+                    for (final PASpawn spawn : classSpawns) {
+                        if (--pos < 0) {
+                            arena.tpPlayerToCoordName(ap, spawn.getName());
                             break;
                         }
                     }
-                    set.remove(ap);
-                    return;
+                } else {
+                    for (final PASpawn s : spawns) {
+                        arena.tpPlayerToCoordName(ap, s.getName());
+                        if (spawns.size() > 1) {
+                            spawns.remove(s);
+                        }
+                        break;
+                    }
                 }
-                cancel();
-            }
-
+            });
         }
-        new TeleportLater(set).runTaskTimer(PVPArena.instance, 1L, 1L);
     }
 
     public static void distributeSmart(final Arena arena,
@@ -241,82 +152,30 @@ public final class SpawnManager {
             return;
         }
 
-        final Set<PASpawn> locations;
-        final Set<PASpawn> total_locations;
+        final String prefix;
 
         if (arena.isFreeForAll()) {
-            if ("free".equals(teamNName)) {
-                locations = getPASpawnsStartingWith(arena, "spawn");
-                total_locations = getPASpawnsStartingWith(arena, "spawn");
-            } else {
-                locations = getPASpawnsStartingWith(arena, teamNName);
-                total_locations = getPASpawnsStartingWith(arena, teamNName);
-            }
+            prefix = "free".equals(teamNName) ? "spawn" : teamNName;
         } else {
-            locations = getPASpawnsStartingWith(arena, teamNName + "spawn");
-            total_locations = getPASpawnsStartingWith(arena, teamNName + "spawn");
+            prefix = teamNName + "spawn";
         }
 
-        if (locations == null || locations.size() < 1) {
+        final String[] iteratings = arena.getSpawnIndex().getFarSpawnOrder(prefix);
+
+        if (iteratings.length < 1) {
             arena.getDebugger().i("null or less than 1! -> OUT!");
             return;
         }
+        arena.getDebugger().i(() -> "spawn order: " + StringParser.joinArray(iteratings, ", "));
 
-        final String[] iteratings = new String[locations.size()];
-
-        for (int i = 0; i < total_locations.size(); i++) {
-            if (i == 0) {
-                PASpawn innerSpawn = null;
-                for (final PASpawn ss : locations) {
-                    innerSpawn = ss;
-                    break;
-                }
-                iteratings[i] = innerSpawn.getName();
-                locations.remove(innerSpawn);
-                continue;
-            }
-            final String spawnName = calculateFarSpawn(iteratings, locations, total_locations);
-            iteratings[i] = spawnName;
-            for (final PASpawn spawn : locations) {
-                if (spawn.getName().equals(spawnName)) {
-                    locations.remove(spawn);
-                    break;
-                }
-            }
-
-        }
-
-        class TeleportLater extends BukkitRunnable {
-            private int pos;
-            private final String[] iteratings;
-            private final Set<ArenaPlayer> set = new HashSet<>();
-
-            TeleportLater(final Set<ArenaPlayer> set, final String[] iteratings) {
-                pos = 0;
-                for (final ArenaPlayer ap : set) {
-                    this.set.add(ap);
-                }
-                this.iteratings = iteratings.clone();
-            }
-
-            @Override
-            public void run() {
-                for (final ArenaPlayer ap : set) {
-                    ap.setStatus(Status.FIGHT);
-                    final String spawnName = iteratings[pos++ % iteratings.length];
-                    if (spawnName == null) {
-                        PVPArena.instance.getLogger().warning("Element #" + pos + " is null: [" + StringParser.joinArray(iteratings, ",") + ']');
-                    }
-                    arena.tpPlayerToCoordName(ap, spawnName);
-                    set.remove(ap);
-                    return;
-                }
-                cancel();
-            }
-
+        int pos = 0;
+        for (final ArenaPlayer ap : new ArrayList<>(set)) {
+            final String spawnName = iteratings[pos++ % iteratings.length];
+            arena.getTeleportStaging().stage(() -> {
+                ap.setStatus(Status.FIGHT);
+                arena.tpPlayerToCoordName(ap, spawnName);
+            });
         }
-
-        new TeleportLater(set, iteratings).runTaskTimer(PVPArena.instance, 1L, 1L);
     }
 
 
@@ -338,96 +197,43 @@ public final class SpawnManager {
     }
 
     public static Set<PABlockLocation> getBlocksStartingWith(final Arena arena, final String name) {
-        final Set<PABlockLocation> result = new HashSet<>();
-
-        for (final PABlock block : arena.getBlocks()) {
-            if (block.getName().startsWith(name)) {
-                result.add(block.getLocation());
-            }
-        }
-
-        return result;
+        return arena.getSpawnIndex().getBlockLocationsStartingWith(name);
     }
 
     public static Set<PABlockLocation> getBlocksContaining(final Arena arena, final String name) {
-        final Set<PABlockLocation> result = new HashSet<>();
-
-        for (final PABlock block : arena.getBlocks()) {
-            if (block.getName().contains(name)) {
-                result.add(block.getLocation());
-            }
-        }
-
-        return result;
+        return arena.getSpawnIndex().getBlockLocationsContaining(name);
     }
 
     public static Set<PABlock> getPABlocksContaining(final Arena arena, final String name) {
-        final Set<PABlock> result = new HashSet<>();
-
-        for (final PABlock block : arena.getBlocks()) {
-            if (block.getName().contains(name)) {
-                result.add(block);
-            }
-        }
-
-        return result;
+        return arena.getSpawnIndex().getBlocksContaining(name);
     }
 
     public static Set<PALocation> getSpawnsContaining(final Arena arena, final String name) {
-        final Set<PALocation> result = new HashSet<>();
-
-        for (final PASpawn spawn : arena.getSpawns()) {
-            if (spawn.getName().contains(name)) {
-                result.add(spawn.getLocation());
-            }
-        }
-
-        return result;
+        return arena.getSpawnIndex().getSpawnLocationsContaining(name);
     }
 
     public static Set<PALocation> getSpawnsStartingWith(final Arena arena, final String name) {
-        final Set<PALocation> result = new HashSet<>();
-
-        for (final PASpawn spawn : arena.getSpawns()) {
-            if (spawn.getName().startsWith(name)) {
-                result.add(spawn.getLocation());
-            }
-        }
-
-        return result;
+        return arena.getSpawnIndex().getSpawnLocationsStartingWith(name);
     }
 
     public static Set<PASpawn> getPASpawnsStartingWith(final Arena arena, final String name) {
-        final Set<PASpawn> result = new HashSet<>();
-
-        for (final PASpawn spawn : arena.getSpawns()) {
-            if (spawn.getName().startsWith(name)) {
-                result.add(spawn);
-            }
-        }
-
-        return result;
+        return arena.getSpawnIndex().getSpawnsStartingWith(name);
     }
 
     public static PABlockLocation getBlockByExactName(final Arena arena, final String name) {
-        for (final PABlock spawn : arena.getBlocks()) {
-            if (spawn.getName().equals(name)) {
-                return spawn.getLocation();
-            }
-        }
-        return null;
+        final PABlock block = arena.getSpawnIndex().getBlock(name);
+        return block == null ? null : block.getLocation();
     }
 
     public static PALocation getSpawnByExactName(final Arena arena, final String name) {
-        for (final PASpawn spawn : arena.getSpawns()) {
-            if (spawn.getName().equals(name)) {
-                return spawn.getLocation().add(
-                        PVPArena.instance.getConfig().getDouble("x-offset", 0.5),
-                        PVPArena.instance.getConfig().getDouble("y-offset", 0.5),
-                        PVPArena.instance.getConfig().getDouble("z-offset", 0.5));
-            }
-        }
-        return null;
+        final PASpawn spawn = arena.getSpawnIndex().getSpawn(name);
+        if (spawn == null) {
+            return null;
+        }
+        return spawn.getLocation().add(
+                PVPArena.instance.getConfig().getDouble("x-offset", 0.5),
+                PVPArena.instance.getConfig().getDouble("y-offset", 0.5),
+                PVPArena.instance.getConfig().getDouble("z-offset", 0.5));
     }
 
     public static PABlockLocation getRegionCenter(final Arena arena) {
@@ -637,7 +443,7 @@ public final class SpawnManager {
                 int pos = new Random().nextInt(spawns.size());
                 for (final PASpawn spawn : spawns) {
                     if (--pos <= 0) {
-                        Bukkit.getScheduler().runTaskLater(PVPArena.instance, new RespawnRunnable(arena, aPlayer, spawn.getName()), 2);
+                        arena.getScheduler().runLater("RespawnRunnable", new RespawnRunnable(arena, aPlayer, spawn.getName()), 2);
                         aPlayer.setStatus(Status.FIGHT);
                         return;
                     }
@@ -679,7 +485,7 @@ public final class SpawnManager {
                     int pos = new Random().nextInt(spawns.size());
                     for (final PASpawn spawn : spawns) {
                         if (--pos <= 0) {
-                            Bukkit.getScheduler().runTaskLater(PVPArena.instance, new RespawnRunnable(arena, aPlayer, spawn.getName()), 2);
+                            arena.getScheduler().runLater("RespawnRunnable", new RespawnRunnable(arena, aPlayer, spawn.getName()), 2);
                             aPlayer.setStatus(Status.FIGHT);
                             return;
                         }
@@ -726,7 +532,7 @@ public final class SpawnManager {
                     if (paLocationDoubleEntry.getValue() == max) {
                         for (final PASpawn spawn : spawns) {
                             if (spawn.getLocation().equals(paLocationDoubleEntry.getKey())) {
-                                Bukkit.getScheduler().runTaskLater(PVPArena.instance, new RespawnRunnable(arena, aPlayer, spawn.getName()), 2);
+                                arena.getScheduler().runLater("RespawnRunnable", new RespawnRunnable(arena, aPlayer, spawn.getName()), 2);
                                 return;
                             }
                         }
@@ -741,7 +547,7 @@ public final class SpawnManager {
             int pos = new Random().nextInt(spawns.size());
             for (final PASpawn spawn : spawns) {
                 if (--pos <= 0) {
-                    Bukkit.getScheduler().runTaskLater(PVPArena.instance, new RespawnRunnable(arena, aPlayer, spawn.getName()), 2);
+                    arena.getScheduler().runLater("RespawnRunnable", new RespawnRunnable(arena, aPlayer, spawn.getName()), 2);
                     aPlayer.setStatus(Status.FIGHT);
                     return;
                 }
@@ -749,7 +555,7 @@ public final class SpawnManager {
 
         }
 
-        Bukkit.getScheduler().runTaskLater(PVPArena.instance, new RespawnRunnable(arena, aPlayer, overrideSpawn), 2);
+        arena.getScheduler().runLater("RespawnRunnable", new RespawnRunnable(arena, aPlayer, overrideSpawn), 2);
         if (overrideSpawn == null || !overrideSpawn.toLowerCase().endsWith("relay")) {
             aPlayer.setStatus(Status.FIGHT);
         }
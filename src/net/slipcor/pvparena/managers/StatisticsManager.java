@@ -9,18 +9,36 @@ import net.slipcor.pvparena.core.Language;
 import net.slipcor.pvparena.core.Language.MSG;
 import net.slipcor.pvparena.events.PADeathEvent;
 import net.slipcor.pvparena.events.PAKillEvent;
+import net.slipcor.pvparena.events.PALeaderboardEvent;
+import net.slipcor.pvparena.statistics.Leaderboard;
+import net.slipcor.pvparena.statistics.LogStatisticsStore;
+import net.slipcor.pvparena.statistics.StatisticsStore;
+import net.slipcor.pvparena.statistics.YamlStatisticsStore;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.IllegalPluginAccessException;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-
-import static java.util.Comparator.reverseOrder;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 /**
  * <pre>Statistics Manager class</pre>
@@ -33,8 +51,34 @@ import static java.util.Comparator.reverseOrder;
 
 public final class StatisticsManager {
     private static final Debug DEBUG = new Debug(28);
-    private static File playersFile;
-    private static YamlConfiguration config;
+    private static final String YAML_FILE = "players.yml";
+    private static final String LOG_FILE = "players.dat";
+    /**
+     * the size of players.yml above which the log store is suggested
+     */
+    private static final long LARGE_YAML_FILE = 16L * 1024 * 1024;
+    private static StatisticsStore store;
+
+    /**
+     * the latest values of players that changed since the last flush, by "arena.node".
+     * Entries are only removed after they were put into the store, so readers that
+     * look here first and then in the store never miss a value.
+     */
+    private static final Map<String, PendingStats> DIRTY = new ConcurrentHashMap<>();
+    private static final AtomicBoolean FLUSH_SCHEDULED = new AtomicBoolean();
+    /**
+     * the players whose stored statistics are being read, with the arenas they
+     * were updated in meanwhile
+     */
+    private static final Map<ArenaPlayer, Set<Arena>> LOADING = new ConcurrentHashMap<>();
+    private static ExecutorService writer;
+
+    /**
+     * the number of players kept per leaderboard, deeper pages are read from the store
+     */
+    private static final int TOP_SIZE = 100;
+    private static final Map<String, Boards> BOARDS = new ConcurrentHashMap<>();
+    private static final Boards GLOBAL_BOARDS = new Boards(null);
 
     private StatisticsManager() {}
 
@@ -152,44 +196,219 @@ public final class StatisticsManager {
     /**
      * get an array of stats for arena boards and with a given stats type
      *
-     * @param arena  the arena to check
-     * @param statType the type to sort
-     * @return an array of stats values
+     * @param arena  the arena to check, null for all arenas
+     * @param statType the type to sort, NULL for the names of the players with the most wins
+     * @return an array of the 8 best stats values
      */
     public static String[] getStatsValuesForBoard(final Arena arena, final Type statType) {
-        DEBUG.i("getting stats values: " + (arena == null ? "global" : arena.getName()) + " sorted by " + statType);
+        DEBUG.i(() -> "getting stats values: " + (arena == null ? "global" : arena.getName()) + " sorted by " + statType);
 
-        if (arena == null) {
-            return ArenaPlayer.getAllArenaPlayers().stream()
-                    .map(ap -> (statType == Type.NULL) ? ap.getName() : String.valueOf(ap.getTotalStatistics(statType)))
-                    .sorted(reverseOrder())
-                    .limit(8)
+        if (statType == Type.NULL) {
+            return getLeaderboard(arena, Type.WINS).getTop(8).stream()
+                    .map(Leaderboard.Entry::getName)
                     .toArray(String[]::new);
         }
-
-        return arena.getFighters().stream()
-                .map(ap -> (statType == Type.NULL) ? ap.getName() : String.valueOf(ap.getStatistics().getStat(statType)))
-                .sorted(reverseOrder())
-                .limit(8)
+        return getLeaderboard(arena, statType).getTop(8).stream()
+                .map(entry -> String.valueOf(entry.getValue()))
                 .toArray(String[]::new);
     }
 
     /**
      * Get stats map for a given stat type
-     * @param arena the arena to check
+     * @param arena the arena to check, null for all arenas
      * @param statType the kind of stat
-     * @return A map with player name and stat value
+     * @return A map with player name and stat value of the best players, best first
      */
     public static Map<String, Integer> getStats(final Arena arena, final Type statType) {
-        DEBUG.i("getting stats: " + (arena == null ? "global" : arena.getName()) + " sorted by " + statType);
+        DEBUG.i(() -> "getting stats: " + (arena == null ? "global" : arena.getName()) + " sorted by " + statType);
 
-        if (arena == null) {
-            return ArenaPlayer.getAllArenaPlayers().stream()
-                    .collect(Collectors.toMap(ArenaPlayer::getName, ap -> ap.getTotalStatistics(statType)));
+        final Map<String, Integer> result = new LinkedHashMap<>();
+        for (final Leaderboard.Entry entry : getLeaderboard(arena, statType).getTop(TOP_SIZE)) {
+            result.put(entry.getName(), entry.getValue());
         }
+        return result;
+    }
 
-        return arena.getFighters().stream()
-                .collect(Collectors.toMap(ArenaPlayer::getName, ap -> ap.getStatistics().getStat(statType)));
+    /**
+     * get the ranking of a statistic
+     *
+     * @param arena    the arena, null for the sum of all arenas
+     * @param statType the kind of stat
+     * @return the leaderboard of the best players, kept up to date as statistics change.
+     * While it is filled from the store the previous ranking is served, a
+     * PALeaderboardEvent is called once it is filled
+     */
+    public static Leaderboard getLeaderboard(final Arena arena, final Type statType) {
+        final Boards boards = getBoards(arena == null ? null : arena.getName());
+        final Leaderboard board = boards.get(statType);
+        if (board.isStale()) {
+            rebuild(boards);
+        }
+        return board;
+    }
+
+    /**
+     * get a page of the ranking of a statistic. Pages beyond the leaderboard
+     * are read from the store in the background
+     *
+     * @param arena    the arena, null for the sum of all arenas
+     * @param statType the kind of stat
+     * @param page     the page, starting at 0
+     * @param pageSize the entries per page
+     * @param callback called on the server thread with the entries of the page, best first
+     */
+    public static void getPage(final Arena arena, final Type statType, final int page, final int pageSize,
+                               final Consumer<List<Leaderboard.Entry>> callback) {
+        final Leaderboard board = getLeaderboard(arena, statType);
+        final int index = indexOf(statType);
+        if (index < 0 || store == null || writer == null || board.covers(page, pageSize)) {
+            callback.accept(board.getPage(page, pageSize));
+            return;
+        }
+        collect(getArenaNames(arena), values -> callback.accept(values == null ?
+                board.getPage(page, pageSize) : Leaderboard.getPage(values, index, page, pageSize)));
+    }
+
+    private static Boards getBoards(final String arenaName) {
+        return arenaName == null ? GLOBAL_BOARDS : BOARDS.computeIfAbsent(arenaName, Boards::new);
+    }
+
+    private static List<String> getArenaNames(final Arena arena) {
+        if (arena != null) {
+            return Collections.singletonList(arena.getName());
+        }
+        final List<String> result = new ArrayList<>();
+        for (final Arena a : ArenaManager.getArenas()) {
+            result.add(a.getName());
+        }
+        return result;
+    }
+
+    private static int indexOf(final Type statType) {
+        for (int i = 0; i < StatisticsStore.TYPES.length; i++) {
+            if (StatisticsStore.TYPES[i] == statType) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * rank a changed statistic - called by PAStatMap
+     *
+     * @param arenaName the arena name
+     * @param aPlayer   the player
+     * @param statType  the changed stat
+     * @param value     the new value
+     */
+    public static void updateLeaderboard(final String arenaName, final ArenaPlayer aPlayer,
+                                         final Type statType, final int value) {
+        if (statType == Type.NULL || aPlayer == null || aPlayer.getName() == null) {
+            return;
+        }
+        getBoards(arenaName).get(statType).set(aPlayer.getName(), value);
+        GLOBAL_BOARDS.get(statType).set(aPlayer.getName(), aPlayer.getTotalStatistics(statType));
+    }
+
+    /**
+     * drop the rankings of an arena that is removed, and its part of the global ranking
+     *
+     * @param arena the arena
+     */
+    public static void removeArena(final Arena arena) {
+        BOARDS.remove(arena.getName());
+        for (final ArenaPlayer aPlayer : ArenaPlayer.getAllArenaPlayers()) {
+            aPlayer.removeStatistics(arena.getName());
+        }
+        GLOBAL_BOARDS.markStale();
+        rebuild(GLOBAL_BOARDS);
+    }
+
+    /**
+     * fill the boards of an arena, or the global ones, from the store in the background
+     */
+    private static void rebuild(final Boards boards) {
+        if (store == null || writer == null || !boards.rebuilding.compareAndSet(false, true)) {
+            // a running rebuild starts over if the boards were marked stale meanwhile
+            return;
+        }
+        final long generation = boards.generation.get();
+        collect(boards.arenaName == null ? getArenaNames(null) : Collections.singletonList(boards.arenaName),
+                values -> {
+                    boards.fill(values, generation);
+                    if (values == null) {
+                        return;
+                    }
+                    final Arena arena = boards.arenaName == null ? null :
+                            ArenaManager.getArenaByName(boards.arenaName);
+                    if (boards.arenaName == null || arena != null) {
+                        Bukkit.getPluginManager().callEvent(new PALeaderboardEvent(arena));
+                    }
+                    if (boards.isStale()) {
+                        rebuild(boards);
+                    }
+                });
+    }
+
+    /**
+     * read the statistics of arenas, summed up per player. The store is read
+     * by the writer thread, the players in memory are added on the server
+     * thread, as their values may be newer than the stored ones.
+     *
+     * @param arenaNames the arenas to read
+     * @param callback   called on the server thread with the values by player name,
+     *                   ordered like StatisticsStore.TYPES, null if reading failed
+     */
+    private static void collect(final List<String> arenaNames, final Consumer<Map<String, int[]>> callback) {
+        final ExecutorService current = writer;
+        final StatisticsStore currentStore = store;
+        current.execute(() -> {
+            final Map<String, int[]> values = new HashMap<>();
+            try {
+                applyDirty();
+                for (final String arenaName : arenaNames) {
+                    currentStore.forEach(arenaName, (node, entry) -> {
+                        final String name = entry.getPlayerName() == null ?
+                                (isUUID(node) ? null : node) : entry.getPlayerName();
+                        if (name == null) {
+                            return;
+                        }
+                        final int[] sum = values.computeIfAbsent(name, k -> new int[StatisticsStore.TYPES.length]);
+                        for (int i = 0; i < sum.length; i++) {
+                            sum[i] += entry.getValue(i);
+                        }
+                    });
+                }
+            } catch (final RuntimeException e) {
+                PVPArena.instance.getLogger().severe("could not read statistics: " + e.getMessage());
+                runOnServer(() -> callback.accept(null));
+                return;
+            }
+            runOnServer(() -> {
+                for (final ArenaPlayer aPlayer : ArenaPlayer.getAllArenaPlayers()) {
+                    final int[] live = new int[StatisticsStore.TYPES.length];
+                    boolean any = values.containsKey(aPlayer.getName());
+                    for (int i = 0; i < live.length; i++) {
+                        for (final String arenaName : arenaNames) {
+                            live[i] += aPlayer.getStatistic(arenaName, StatisticsStore.TYPES[i]);
+                        }
+                        any |= live[i] != 0;
+                    }
+                    if (any) {
+                        values.put(aPlayer.getName(), live);
+                    }
+                }
+                callback.accept(values);
+            });
+        });
+    }
+
+    private static void runOnServer(final Runnable runnable) {
+        try {
+            Bukkit.getScheduler().runTask(PVPArena.instance, runnable);
+        } catch (final IllegalPluginAccessException ignored) {
+            // disabling, nobody is waiting for the result anymore
+        }
     }
 
     /**
@@ -216,24 +435,96 @@ public final class StatisticsManager {
         if (!PVPArena.instance.getConfig().getBoolean("stats")) {
             return;
         }
-        config = new YamlConfiguration();
-        playersFile = new File(PVPArena.instance.getDataFolder(), "players.yml");
-        if (!playersFile.exists()) {
-            try {
-                playersFile.createNewFile();
-                Arena.pmsg(Bukkit.getConsoleSender(), Language.parse(MSG.STATS_FILE_DONE));
-            } catch (final Exception e) {
-                Arena.pmsg(Bukkit.getConsoleSender(), Language.parse(MSG.ERROR_STATS_FILE));
-                e.printStackTrace();
+        final File dataFolder = PVPArena.instance.getDataFolder();
+        final File yamlFile = new File(dataFolder, YAML_FILE);
+        final boolean existed;
+        final StatisticsStore newStore;
+
+        if ("log".equalsIgnoreCase(PVPArena.instance.getConfig().getString("stats_storage", "yaml"))) {
+            final File logFile = new File(dataFolder, LOG_FILE);
+            existed = logFile.exists();
+            newStore = new LogStatisticsStore(logFile, PVPArena.instance.getLogger());
+        } else {
+            existed = yamlFile.exists();
+            newStore = new YamlStatisticsStore(yamlFile);
+            if (yamlFile.length() > LARGE_YAML_FILE) {
+                PVPArena.instance.getLogger().warning(YAML_FILE + " is read into memory as a whole, " +
+                        "consider setting stats_storage to log");
             }
         }
 
         try {
-            config.load(playersFile);
-        } catch (final Exception e) {
+            if (!existed && newStore instanceof LogStatisticsStore && yamlFile.exists()) {
+                migrate(yamlFile, new File(dataFolder, LOG_FILE));
+            }
+            newStore.open();
+            if (!existed) {
+                Arena.pmsg(Bukkit.getConsoleSender(), Language.parse(MSG.STATS_FILE_DONE));
+            }
+        } catch (final IOException e) {
             Arena.pmsg(Bukkit.getConsoleSender(), Language.parse(MSG.ERROR_STATS_FILE));
             e.printStackTrace();
+            return;
         }
+        store = newStore;
+
+        if (writer == null) {
+            writer = Executors.newSingleThreadExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "PVPArena statistics writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        rebuild(GLOBAL_BOARDS);
+    }
+
+    /**
+     * copy players.yml into a new log. The log is written to a temporary file
+     * and moved in place when it is complete, so a failed migration is
+     * retried with the next start.
+     *
+     * @param yamlFile the players.yml to read
+     * @param logFile  the log to create
+     * @throws IOException if reading or writing failed
+     */
+    private static void migrate(final File yamlFile, final File logFile) throws IOException {
+        final File temp = new File(logFile.getParentFile(), logFile.getName() + ".migrate");
+        Files.deleteIfExists(temp.toPath());
+        final StatisticsStore to = new LogStatisticsStore(temp, PVPArena.instance.getLogger());
+        to.open();
+        try {
+            migrate(new YamlStatisticsStore(yamlFile), to);
+        } finally {
+            to.close();
+        }
+        try {
+            Files.move(temp.toPath(), logFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), logFile.toPath());
+        }
+    }
+
+    /**
+     * copy all statistics from one store to another, e.g. from players.yml to the log
+     *
+     * @param from the store to read
+     * @param to   the store to fill
+     * @throws IOException if reading or writing failed
+     */
+    public static void migrate(final StatisticsStore from, final StatisticsStore to) throws IOException {
+        from.open();
+        int count = 0;
+        for (final String arenaName : from.getArenaNames()) {
+            final List<String> nodes = new ArrayList<>();
+            from.forEach(arenaName, (node, entry) -> {
+                to.put(arenaName, node, entry);
+                nodes.add(node);
+            });
+            count += nodes.size();
+        }
+        to.flush();
+        from.close();
+        PVPArena.instance.getLogger().info("migrated " + count + " statistics entries");
     }
 
     /**
@@ -260,130 +551,319 @@ public final class StatisticsManager {
         ArenaPlayer.parsePlayer(defender.getName()).addDeath();
     }
 
+    /**
+     * schedule writing the changed statistics to disk. Calls are coalesced, the
+     * write is handed to a background thread on the next tick, so all players
+     * updated in this tick end up in one write.
+     */
     public static void save() {
-        if (config == null) {
+        if (store == null || writer == null) {
+            return;
+        }
+        if (FLUSH_SCHEDULED.compareAndSet(false, true)) {
+            try {
+                Bukkit.getScheduler().runTask(PVPArena.instance, StatisticsManager::submitFlush);
+            } catch (final IllegalPluginAccessException e) {
+                // disabling, do not wait for the next tick
+                submitFlush();
+            }
+        }
+    }
+
+    private static void submitFlush() {
+        final ExecutorService current = writer;
+        if (current == null) {
+            // shut down meanwhile, shutdown() has written everything
+            FLUSH_SCHEDULED.set(false);
             return;
         }
+        current.execute(StatisticsManager::flush);
+    }
+
+    /**
+     * write all pending statistics and stop the writer thread - to be called on disable
+     */
+    public static void shutdown() {
+        if (writer != null) {
+            writer.shutdown();
+            try {
+                if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                    PVPArena.instance.getLogger().warning("statistics writer did not finish in time");
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writer = null;
+        }
+        if (store != null) {
+            flush();
+            try {
+                store.close();
+            } catch (final IOException e) {
+                e.printStackTrace();
+            }
+            store = null;
+        }
+    }
+
+    /**
+     * move the pending statistics into the store and write it
+     */
+    private static void flush() {
+        FLUSH_SCHEDULED.set(false);
+        applyDirty();
         try {
-            config.save(playersFile);
+            store.flush();
+            DEBUG.i("statistics written");
         } catch (final IOException e) {
-            e.printStackTrace();
+            PVPArena.instance.getLogger().severe("could not write statistics: " + e.getMessage());
         }
     }
 
+    /**
+     * move the pending statistics into the store - only called by the writer thread,
+     * or after it was shut down
+     */
+    private static void applyDirty() {
+        for (final Map.Entry<String, PendingStats> dirty : DIRTY.entrySet()) {
+            final PendingStats pending = dirty.getValue();
+            store.put(pending.arena, pending.node, pending.entry);
+            // keep it if it was updated meanwhile, the next flush writes the newer one
+            DIRTY.remove(dirty.getKey(), pending);
+        }
+    }
+
+    /**
+     * read the newest values of a player, pending or stored
+     *
+     * @param store     the store to read
+     * @param arenaName the arena name
+     * @param node      the player node
+     * @return the values, null if there are none
+     */
+    private static StatisticsStore.Entry lookup(final StatisticsStore store, final String arenaName,
+                                                final String node) {
+        final PendingStats pending = DIRTY.get(arenaName + '.' + node);
+        return pending == null ? store.get(arenaName, node) : pending.entry;
+    }
+
+    /**
+     * fill the statistics of the players in memory with the values of an arena.
+     * Players that are not loaded are left on disk, they are read when they come back.
+     * The values are read by the writer thread and added on the server thread.
+     *
+     * @param arena the arena to read
+     */
     public static void loadStatistics(final Arena arena) {
         if (!PVPArena.instance.getConfig().getBoolean("stats")) {
             return;
         }
-        if (config == null) {
+        if (store == null) {
             initialize();
+            if (store == null) {
+                return;
+            }
         }
-        if (config.getConfigurationSection(arena.getName()) == null) {
-            return;
-        }
-
         arena.getDebugger().i("loading statistics!");
-        boolean foundBroken = false;
-        for (final String playerID : config.getConfigurationSection(arena.getName()).getKeys(false)) {
-
-
-            String playerName = null;
-
-            if (config.getConfigurationSection(arena.getName()).contains(playerID+".name")) {
-                playerName = config.getConfigurationSection(arena.getName()).getString(playerID+".name");
+        final String arenaName = arena.getName();
+        final Map<ArenaPlayer, String> nodes = new HashMap<>();
+        for (final ArenaPlayer aPlayer : ArenaPlayer.getAllArenaPlayers()) {
+            // players read while loading get this arena from their own load
+            if (!LOADING.containsKey(aPlayer) && !aPlayer.hasStatistics(arenaName)) {
+                nodes.put(aPlayer, getNode(aPlayer));
             }
-
-            arena.getDebugger().i("loading stats: " + playerName);
-
-            final ArenaPlayer aPlayer;
-
-            try {
-                if(playerName != null) {
-                    aPlayer = ArenaPlayer.addPlayer(playerName);
-                } else {
-                    continue;
+        }
+        final StatisticsStore currentStore = store;
+        writer.execute(() -> {
+            final Map<ArenaPlayer, StatisticsStore.Entry> entries = new HashMap<>();
+            for (final Map.Entry<ArenaPlayer, String> node : nodes.entrySet()) {
+                final StatisticsStore.Entry entry = lookup(currentStore, arenaName, node.getValue());
+                if (entry != null) {
+                    entries.put(node.getKey(), entry);
                 }
-
-            } catch (IllegalArgumentException e) {
-                PVPArena.instance.getLogger().warning("invalid player ID: " + playerID);
-                continue;
             }
+            runOnServer(() -> {
+                for (final Map.Entry<ArenaPlayer, StatisticsStore.Entry> entry : entries.entrySet()) {
+                    arena.getDebugger().i("loading stats: " + entry.getKey().getName());
+                    merge(entry.getKey(), arenaName, entry.getValue());
+                }
+                // players that are not loaded are only ranked by reading the store again
+                final Boards boards = getBoards(arenaName);
+                boards.markStale();
+                rebuild(boards);
+                GLOBAL_BOARDS.markStale();
+                rebuild(GLOBAL_BOARDS);
+            });
+        });
+    }
 
-            for (final Type ttt : Type.values()) {
-                aPlayer.setStatistic(arena.getName(), ttt, 0);
+    /**
+     * load the statistics of a single player of all arenas, e.g. when an evicted
+     * player comes back. The values are read by the writer thread and added on
+     * the server thread, to what the player gained meanwhile.
+     *
+     * @param aPlayer the player to fill
+     */
+    public static void loadStatistics(final ArenaPlayer aPlayer) {
+        final ExecutorService current = writer;
+        final StatisticsStore currentStore = store;
+        if (currentStore == null || current == null) {
+            return;
+        }
+        final String node = getNode(aPlayer);
+        LOADING.put(aPlayer, ConcurrentHashMap.newKeySet());
+
+        current.execute(() -> {
+            final Map<String, StatisticsStore.Entry> entries = new HashMap<>();
+            final Set<String> arenaNames = currentStore.getArenaNames();
+            for (final PendingStats pending : DIRTY.values()) {
+                arenaNames.add(pending.arena);
             }
+            for (final String arenaName : arenaNames) {
+                final StatisticsStore.Entry entry = lookup(currentStore, arenaName, node);
+                if (entry != null) {
+                    entries.put(arenaName, entry);
+                }
+            }
+            runOnServer(() -> {
+                for (final Map.Entry<String, StatisticsStore.Entry> entry : entries.entrySet()) {
+                    DEBUG.i("reloading stats of " + aPlayer.getName() + " in " + entry.getKey());
+                    merge(aPlayer, entry.getKey(), entry.getValue());
+                }
+                // write what was held back while loading, now with the stored values
+                for (final Arena arena : LOADING.remove(aPlayer)) {
+                    update(arena, aPlayer);
+                }
+                save();
+            });
+        });
+    }
 
-            final int losses = config.getInt(arena.getName() + '.' + playerID + ".losses", 0);
-            aPlayer.addStatistic(arena.getName(), Type.LOSSES, losses);
-
-            final int wins = config.getInt(arena.getName() + '.' + playerID + ".wins", 0);
-            aPlayer.addStatistic(arena.getName(), Type.WINS, wins);
-
-            final int kills = config.getInt(arena.getName() + '.' + playerID + ".kills", 0);
-            aPlayer.addStatistic(arena.getName(), Type.KILLS, kills);
-
-            final int deaths = config.getInt(arena.getName() + '.' + playerID + ".deaths", 0);
-            aPlayer.addStatistic(arena.getName(), Type.DEATHS, deaths);
-
-            final int damage = config.getInt(arena.getName() + '.' + playerID + ".damage", 0);
-            aPlayer.addStatistic(arena.getName(), Type.DAMAGE, damage);
-
-            final int maxdamage = config.getInt(arena.getName() + '.' + playerID + ".maxdamage", 0);
-            aPlayer.addStatistic(arena.getName(), Type.MAXDAMAGE, maxdamage);
+    /**
+     * add stored values to the values of a player in memory
+     */
+    private static void merge(final ArenaPlayer aPlayer, final String arenaName, final StatisticsStore.Entry entry) {
+        for (int i = 0; i < StatisticsStore.TYPES.length; i++) {
+            final Type type = StatisticsStore.TYPES[i];
+            if (type == Type.MAXDAMAGE || type == Type.MAXDAMAGETAKE) {
+                aPlayer.setStatistic(arenaName, type,
+                        Math.max(aPlayer.getStatistic(arenaName, type), entry.getValue(i)));
+            } else {
+                aPlayer.addStatistic(arenaName, type, entry.getValue(i));
+            }
+        }
+    }
 
-            final int damagetake = config.getInt(arena.getName() + '.' + playerID + ".damagetake", 0);
-            aPlayer.addStatistic(arena.getName(), Type.DAMAGETAKE, damagetake);
+    private static boolean isUUID(final String node) {
+        return node.length() == 36 && node.charAt(8) == '-' && node.charAt(13) == '-';
+    }
 
-            final int maxdamagetake = config.getInt(arena.getName() + '.' + playerID + ".maxdamagetake", 0);
-            aPlayer.addStatistic(arena.getName(), Type.MAXDAMAGETAKE, maxdamagetake);
-        }
-        if (foundBroken) {
-            save();
+    private static String getNode(final ArenaPlayer aPlayer) {
+        try {
+            return aPlayer.get().getUniqueId().toString();
+        } catch (final Exception ignored) {
+            return aPlayer.getName();
         }
     }
 
+    /**
+     * remember the current statistics of a player, to be written with the next save()
+     *
+     * @param arena   the arena to update
+     * @param aPlayer the player to update
+     */
     public static void update(final Arena arena, final ArenaPlayer aPlayer) {
-        if (config == null) {
+        if (store == null) {
+            return;
+        }
+        final Set<Arena> held = LOADING.get(aPlayer);
+        if (held != null) {
+            // only the gains so far, written once the stored values are added
+            held.add(arena);
             return;
         }
 
         final PAStatMap map = aPlayer.getStatistics(arena);
+        final String node = getNode(aPlayer);
 
-        String node = aPlayer.getName();
-
-        try {
-            node = aPlayer.get().getUniqueId().toString();
-        } catch (final Exception ignored) {
-
+        final int[] values = new int[StatisticsStore.TYPES.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = map.getStat(StatisticsStore.TYPES[i]);
         }
 
-        final int losses = map.getStat(Type.LOSSES);
-        config.set(arena.getName() + '.' + node + ".losses", losses);
-
-        final int wins = map.getStat(Type.WINS);
-        config.set(arena.getName() + '.' + node + ".wins", wins);
-
-        final int kills = map.getStat(Type.KILLS);
-        config.set(arena.getName() + '.' + node + ".kills", kills);
-
-        final int deaths = map.getStat(Type.DEATHS);
-        config.set(arena.getName() + '.' + node + ".deaths", deaths);
+        DIRTY.put(arena.getName() + '.' + node, new PendingStats(arena.getName(), node,
+                new StatisticsStore.Entry(node.equals(aPlayer.getName()) ? null : aPlayer.getName(), values)));
+    }
 
-        final int damage = map.getStat(Type.DAMAGE);
-        config.set(arena.getName() + '.' + node + ".damage", damage);
+    /**
+     * the leaderboards of one arena, or of all arenas
+     */
+    private static final class Boards {
+        private final String arenaName;
+        private final Leaderboard[] boards = new Leaderboard[Type.values().length];
+        private final AtomicBoolean rebuilding = new AtomicBoolean();
+        // counts the invalidations, to tell if one happened while reading
+        private final AtomicLong generation = new AtomicLong();
+
+        private Boards(final String arenaName) {
+            this.arenaName = arenaName;
+            for (int i = 0; i < boards.length; i++) {
+                boards[i] = new Leaderboard(TOP_SIZE);
+            }
+        }
 
-        final int maxdamage = map.getStat(Type.MAXDAMAGE);
-        config.set(arena.getName() + '.' + node + ".maxdamage", maxdamage);
+        private Leaderboard get(final Type statType) {
+            return boards[statType == Type.NULL ? Type.WINS.ordinal() : statType.ordinal()];
+        }
 
-        final int damagetake = map.getStat(Type.DAMAGETAKE);
-        config.set(arena.getName() + '.' + node + ".damagetake", damagetake);
+        private void markStale() {
+            generation.incrementAndGet();
+            for (final Leaderboard board : boards) {
+                board.markStale();
+            }
+        }
 
-        final int maxdamagetake = map.getStat(Type.MAXDAMAGETAKE);
-        config.set(arena.getName() + '.' + node + ".maxdamagetake", maxdamagetake);
+        private boolean isStale() {
+            for (final Leaderboard board : boards) {
+                if (board.isStale()) {
+                    return true;
+                }
+            }
+            return false;
+        }
 
-        if (!node.equals(aPlayer.getName())) {
-            config.set(arena.getName() + '.' + node + ".playerName", aPlayer.getName());
+        /**
+         * @param values     the values read, null if reading failed
+         * @param generation the generation when reading started
+         */
+        private void fill(final Map<String, int[]> values, final long generation) {
+            if (values != null) {
+                for (int i = 0; i < StatisticsStore.TYPES.length; i++) {
+                    get(StatisticsStore.TYPES[i]).fill(values, i);
+                }
+                if (generation != this.generation.get()) {
+                    // invalidated after the values were read, keep them but read again
+                    for (final Leaderboard board : boards) {
+                        board.markStale();
+                    }
+                }
+            }
+            rebuilding.set(false);
         }
+    }
 
+    /**
+     * the statistics of a player waiting to be stored
+     */
+    private static final class PendingStats {
+        private final String arena;
+        private final String node;
+        private final StatisticsStore.Entry entry;
+
+        private PendingStats(final String arena, final String node, final StatisticsStore.Entry entry) {
+            this.arena = arena;
+            this.node = node;
+            this.entry = entry;
+        }
     }
 }
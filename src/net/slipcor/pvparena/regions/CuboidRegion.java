@@ -94,6 +94,7 @@ public class CuboidRegion extends ArenaRegionShape {
         final PABlockLocation[] sane = sanityCheck(region.locs[0], region.locs[1]);
         region.locs[0] = sane[0];
         region.locs[1] = sane[1];
+        invalidateGeometry();
     }
 
     @Override
@@ -234,11 +235,11 @@ public class CuboidRegion extends ArenaRegionShape {
 
     @Override
     public boolean contains(final PABlockLocation loc) {
-        if (getMinimumLocation() == null || getMaximumLocation() == null
-                || loc == null || !loc.getWorldName().equals(region.getWorldName())) {
-            return false; // no arena, no container or not in the same world
+        if (getMinimumLocation() == null || getMaximumLocation() == null || loc == null) {
+            return false; // no arena or no container
         }
-        return loc.isInAABB(getMinimumLocation(), getMaximumLocation());
+        // the bounding box is the cuboid itself
+        return getGeometryIfInBounds(region, loc) != null;
     }
 
     @Override
@@ -321,6 +322,7 @@ public class CuboidRegion extends ArenaRegionShape {
         }
         region.locs[0] = new PABlockLocation(region.locs[0].toLocation().add(diffX * value, diffY * value, diffZ * value));
         region.locs[1] = new PABlockLocation(region.locs[1].toLocation().add(diffX * value, diffY * value, diffZ * value));
+        invalidateGeometry();
     }
 
     @Override
@@ -351,5 +353,6 @@ public class CuboidRegion extends ArenaRegionShape {
             region.locs[0] = new PABlockLocation(region.locs[0].toLocation().subtract(0, 0, diffZ * value));
         }
 
+        invalidateGeometry();
     }
 }
@@ -81,6 +81,7 @@ public class CylindricRegion extends ArenaRegionShape {
         final PABlockLocation[] sane = sanityCheck(region.locs[0], region.locs[1]);
         region.locs[0] = sane[0];
         region.locs[1] = sane[1];
+        invalidateGeometry();
     }
 
     @Override
@@ -282,27 +283,19 @@ public class CylindricRegion extends ArenaRegionShape {
 
     @Override
     public boolean contains(final PABlockLocation loc) {
-        if (region.locs[0] == null || region.locs[1] == null
-                || loc == null || !loc.getWorldName().equals(region.getWorldName())) {
-            return false; // no arena, no container or not in the same world
+        if (region.locs[0] == null || region.locs[1] == null || loc == null) {
+            return false; // no arena or no container
         }
-        if (loc.getY() > region.locs[1].getY()) {
-            return false;
-        }
-        if (loc.getY() < region.locs[0].getY()) {
-            return false;
+        final Geometry geometry = getGeometryIfInBounds(region, loc);
+        if (geometry == null) {
+            return false; // not in the same world, above, below or far away
         }
+        return geometry.flatDistanceSquared(loc) <= geometry.flatRadiusSquared;
+    }
 
-        final PABlockLocation thisCenter = region.locs[1].getMidpoint(
-                region.locs[0]);
-
-        final PABlockLocation a = new PABlockLocation(region.locs[1].toLocation());
-        a.setY(region.locs[0].getY());
-
-        final Double thisRadius = region.locs[0].getDistanceSquared(a) / 4;
-        thisCenter.setY(loc.getY());
-
-        return loc.getDistanceSquared(thisCenter) <= thisRadius;
+    @Override
+    protected BoundsType getBoundsType() {
+        return BoundsType.CYLINDER;
     }
 
     @Override
@@ -416,6 +409,7 @@ public class CylindricRegion extends ArenaRegionShape {
         }
         region.locs[0] = new PABlockLocation(region.locs[0].toLocation().add(diffX * value, diffY * value, diffZ * value));
         region.locs[1] = new PABlockLocation(region.locs[1].toLocation().add(diffX * value, diffY * value, diffZ * value));
+        invalidateGeometry();
     }
 
     @Override
@@ -436,5 +430,6 @@ public class CylindricRegion extends ArenaRegionShape {
         } else {
             region.locs[0] = new PABlockLocation(region.locs[0].toLocation().subtract(diffX * value, diffY * value, diffZ * value));
         }
+        invalidateGeometry();
     }
 }
@@ -78,6 +78,7 @@ public class SphericRegion extends ArenaRegionShape {
         final PABlockLocation[] sane = sanityCheck(region.locs[0], region.locs[1]);
         region.locs[0] = sane[0];
         region.locs[1] = sane[1];
+        invalidateGeometry();
     }
 
     @Override
@@ -283,19 +284,23 @@ public class SphericRegion extends ArenaRegionShape {
 
     @Override
     public boolean contains(final PABlockLocation loc) {
-        if (region.locs[0] == null || region.locs[1] == null
-                || loc == null || !loc.getWorldName().equals(region.getWorldName())) {
-            return false; // no arena, no container or not in the same world
+        if (region.locs[0] == null || region.locs[1] == null || loc == null) {
+            return false; // no arena or no container
         }
-        return loc.getDistanceSquared(getCenter()) <= getRadiusSquared();
+        final Geometry geometry = getGeometryIfInBounds(region, loc);
+        if (geometry == null) {
+            return false; // not in the same world or far away
+        }
+        return geometry.distanceSquared(loc) <= geometry.radiusSquared;
     }
 
-    private Double getRadius() {
-        return region.locs[0].getDistance(region.locs[1]) / 2;
+    @Override
+    protected BoundsType getBoundsType() {
+        return BoundsType.SPHERE;
     }
 
-    private Double getRadiusSquared() {
-        return region.locs[0].getDistanceSquared(region.locs[1]) / 4;
+    private Double getRadius() {
+        return region.locs[0].getDistance(region.locs[1]) / 2;
     }
 
     private ArenaRegion getRegion() {
@@ -387,6 +392,7 @@ public class SphericRegion extends ArenaRegionShape {
         }
         region.locs[0] = new PABlockLocation(region.locs[0].toLocation().add(diffX * value, diffY * value, diffZ * value));
         region.locs[1] = new PABlockLocation(region.locs[1].toLocation().add(diffX * value, diffY * value, diffZ * value));
+        invalidateGeometry();
     }
 
     @Override
@@ -400,5 +406,6 @@ public class SphericRegion extends ArenaRegionShape {
         }
         region.locs[0] = new PABlockLocation(region.locs[0].toLocation().subtract(diffX * value, diffY * value, diffZ * value));
         region.locs[1] = new PABlockLocation(region.locs[1].toLocation().add(diffX * value, diffY * value, diffZ * value));
+        invalidateGeometry();
     }
 }
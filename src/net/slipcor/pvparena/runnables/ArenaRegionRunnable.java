@@ -0,0 +1,181 @@
+package net.slipcor.pvparena.runnables;
+
+import net.slipcor.pvparena.PVPArena;
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.arena.ArenaPlayer;
+import net.slipcor.pvparena.classes.PABlockLocation;
+import net.slipcor.pvparena.loadables.ArenaRegion;
+import net.slipcor.pvparena.loadables.ArenaRegion.RegionType;
+import net.slipcor.pvparena.managers.ArenaManager;
+import org.bukkit.Location;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * <pre>
+ * Arena Runnable class "ArenaRegion"
+ * </pre>
+ * <p/>
+ * An arena timer to commit the checks of all scheduled regions at once. Each
+ * player is looked up once per run, and the regions containing them are only
+ * recalculated when they moved to another block or the regions changed.
+ *
+ * @author slipcor
+ */
+
+public class ArenaRegionRunnable implements Runnable {
+    private static final ArenaRegion[] EMPTY = new ArenaRegion[0];
+
+    private final Arena arena;
+    private final Map<String, PlayerState> states = new HashMap<>();
+
+    private ArenaRegion[] regions = EMPTY;
+    private boolean[] due = new boolean[0];
+    private boolean[] stopped = new boolean[0];
+    private int regionVersion = -1;
+    private int runCount;
+
+    /**
+     * create an arena region runnable
+     *
+     * @param arena the arena we are running in
+     */
+    public ArenaRegionRunnable(final Arena arena) {
+        this.arena = arena;
+        arena.getDebugger().i("ArenaRegionRunnable constructor");
+    }
+
+    /**
+     * the run method, commit region checks
+     */
+    @Override
+    public void run() {
+        if (regionVersion != ArenaManager.getRegionVersion() || regions.length != arena.getRegions().size()) {
+            regions = arena.getRegions().toArray(EMPTY);
+            due = new boolean[regions.length];
+            stopped = new boolean[regions.length];
+            regionVersion = ArenaManager.getRegionVersion();
+            states.clear();
+        }
+
+        if (!updateDueRegions()) {
+            states.clear();
+            return;
+        }
+
+        runCount++;
+
+        for (final ArenaPlayer ap : arena.getEveryone()) {
+            if (ap.get() == null || ap.isTeleporting()) {
+                continue;
+            }
+            PlayerState state = states.get(ap.getName());
+            if (state == null) {
+                state = new PlayerState(regions.length);
+                states.put(ap.getName(), state);
+            }
+            state.update(ap, ap.get().getLocation());
+            state.lastRun = runCount;
+
+            for (int i = 0; i < regions.length; i++) {
+                if (!due[i] || stopped[i]) {
+                    continue;
+                }
+                final ArenaRegion region = regions[i];
+                final boolean insideOfType = !region.needsEscapeCheck(ap) || state.isInside(region.getType());
+                if (!region.tickPlayer(ap, state.location, state.inside[i], insideOfType)) {
+                    stopped[i] = true;
+                }
+            }
+        }
+
+        for (int i = 0; i < regions.length; i++) {
+            if (due[i] && !stopped[i] && regions[i].getType() == RegionType.JOIN) {
+                regions[i].tickJoin();
+            }
+        }
+
+        final Iterator<PlayerState> iterator = states.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().lastRun != runCount) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * decide which regions would have been ticked by their own RegionRunnable
+     *
+     * @return true if at least one region is due
+     */
+    private boolean updateDueRegions() {
+        final boolean fight = arena.isFightInProgress();
+        Boolean joinInBattle = null;
+        boolean any = false;
+
+        for (int i = 0; i < regions.length; i++) {
+            final ArenaRegion region = regions[i];
+            stopped[i] = false;
+            if (!region.isScheduled()) {
+                due[i] = false;
+                continue;
+            }
+            final RegionType type = region.getType();
+            if (type == RegionType.JOIN) {
+                if (fight && joinInBattle == null) {
+                    joinInBattle = PVPArena.instance.getAgm().allowsJoinInBattle(arena);
+                }
+                due[i] = !fight || joinInBattle;
+            } else if (type == RegionType.WATCH || type == RegionType.LOUNGE) {
+                due[i] = true;
+            } else {
+                due[i] = fight;
+            }
+            any |= due[i];
+        }
+        return any;
+    }
+
+    /**
+     * the cached region containment of one player
+     */
+    private final class PlayerState {
+        private final boolean[] inside;
+        private int typesInside;
+        private PABlockLocation location;
+        private int lastRun;
+
+        private PlayerState(final int regionCount) {
+            inside = new boolean[regionCount];
+        }
+
+        private void update(final ArenaPlayer ap, final Location loc) {
+            if (location != null
+                    && location.getX() == loc.getBlockX()
+                    && location.getY() == loc.getBlockY()
+                    && location.getZ() == loc.getBlockZ()
+                    && location.getWorldName().equals(loc.getWorld().getName())) {
+                return;
+            }
+            location = new PABlockLocation(loc);
+            typesInside = 0;
+            for (int i = 0; i < regions.length; i++) {
+                final boolean now = regions[i].getShape().contains(location);
+                if (now != inside[i]) {
+                    final ArenaRegion region = regions[i];
+                    arena.getDebugger().i(() -> (now ? "entered " : "left ") + region.getRegionName(), ap.get());
+                    inside[i] = now;
+                }
+                if (now) {
+                    typesInside |= 1 << regions[i].getType().ordinal();
+                }
+            }
+        }
+
+        private boolean isInside(final RegionType type) {
+            return (typesInside & (1 << type.ordinal())) != 0;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package net.slipcor.pvparena.runnables;
+
+import net.slipcor.pvparena.arena.Arena;
+
+/**
+ * <pre>
+ * Arena Tick Runnable class
+ * </pre>
+ * <p/>
+ * The base of arena timers that run on the arena tick scheduler instead of
+ * having a Bukkit task of their own. Mirrors the BukkitRunnable methods.
+ *
+ * @author slipcor
+ */
+
+public abstract class ArenaTickRunnable implements Runnable {
+    private ArenaTickScheduler.Task task;
+
+    /**
+     * run this once on the scheduler of an arena
+     *
+     * @param arena the arena to run in
+     * @param delay the ticks to wait
+     * @return the task handle
+     */
+    public ArenaTickScheduler.Task runTaskLater(final Arena arena, final long delay) {
+        checkNotScheduled();
+        task = arena.getScheduler().runLater(getClass().getSimpleName(), this, delay);
+        return task;
+    }
+
+    /**
+     * run this repeatedly on the scheduler of an arena, until cancelled or
+     * the arena is reset
+     *
+     * @param arena  the arena to run in
+     * @param delay  the ticks to wait before the first run
+     * @param period the ticks between two runs
+     * @return the task handle
+     */
+    public ArenaTickScheduler.Task runTaskTimer(final Arena arena, final long delay, final long period) {
+        checkNotScheduled();
+        task = arena.getScheduler().runTimer(getClass().getSimpleName(), this, delay, period);
+        return task;
+    }
+
+    /**
+     * stop this timer
+     */
+    public void cancel() {
+        if (task != null) {
+            task.cancel();
+        }
+    }
+
+    public boolean isCancelled() {
+        return task != null && task.isCancelled();
+    }
+
+    private void checkNotScheduled() {
+        if (task != null) {
+            throw new IllegalStateException("Already scheduled as task " + task.getId());
+        }
+    }
+}
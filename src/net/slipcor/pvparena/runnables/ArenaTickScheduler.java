@@ -0,0 +1,302 @@
+package net.slipcor.pvparena.runnables;
+
+import net.slipcor.pvparena.PVPArena;
+import net.slipcor.pvparena.arena.Arena;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.IllegalPluginAccessException;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+import java.util.logging.Level;
+
+/**
+ * <pre>
+ * Arena Tick Scheduler class
+ * </pre>
+ * <p/>
+ * Runs the delayed and periodic work of one arena from a single Bukkit task.
+ * Tasks are kept in a hierarchical timer wheel: the next 256 ticks have a
+ * slot each, the following 64 windows of 256 ticks have a slot each, anything
+ * later waits in an overflow list. Scheduling and cancelling are O(1), a tick
+ * only touches the tasks that are due. The Bukkit task only runs while tasks
+ * are pending.
+ *
+ * @author slipcor
+ */
+
+public final class ArenaTickScheduler {
+    private static final int NEAR_BITS = 8;
+    private static final int NEAR_SIZE = 1 << NEAR_BITS;
+    private static final int NEAR_MASK = NEAR_SIZE - 1;
+    private static final int FAR_SIZE = 64;
+    private static final int FAR_MASK = FAR_SIZE - 1;
+
+    private final Arena arena;
+    private final List<List<Task>> near = new ArrayList<>(NEAR_SIZE);
+    private final List<List<Task>> far = new ArrayList<>(FAR_SIZE);
+    private final List<Task> overflow = new ArrayList<>();
+    private final Set<Task> tasks = new LinkedHashSet<>();
+    private List<Task> running = new ArrayList<>();
+
+    private BukkitTask bukkitTask;
+    private long tick;
+    private int nextId;
+
+    public ArenaTickScheduler(final Arena arena) {
+        this.arena = arena;
+        for (int i = 0; i < NEAR_SIZE; i++) {
+            near.add(new ArrayList<>());
+        }
+        for (int i = 0; i < FAR_SIZE; i++) {
+            far.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * run a task once
+     *
+     * @param name     the name to list the task under
+     * @param runnable the work to do
+     * @param delay    the ticks to wait
+     * @return the task handle
+     */
+    public Task runLater(final String name, final Runnable runnable, final long delay) {
+        return schedule(name, runnable, delay, 0, false);
+    }
+
+    /**
+     * run a task repeatedly until it is cancelled or the arena is reset
+     *
+     * @param name     the name to list the task under
+     * @param runnable the work to do
+     * @param delay    the ticks to wait before the first run
+     * @param period   the ticks between two runs
+     * @return the task handle
+     */
+    public Task runTimer(final String name, final Runnable runnable, final long delay, final long period) {
+        return schedule(name, runnable, delay, Math.max(1, period), false);
+    }
+
+    /**
+     * run a task repeatedly until it is cancelled, surviving arena resets
+     *
+     * @param name     the name to list the task under
+     * @param runnable the work to do
+     * @param delay    the ticks to wait before the first run
+     * @param period   the ticks between two runs
+     * @return the task handle
+     */
+    public Task runPersistentTimer(final String name, final Runnable runnable, final long delay, final long period) {
+        return schedule(name, runnable, delay, Math.max(1, period), true);
+    }
+
+    private Task schedule(final String name, final Runnable runnable, final long delay,
+                          final long period, final boolean persistent) {
+        final Task task = new Task(this, ++nextId, name, runnable, period, persistent);
+        task.due = tick + Math.max(1, delay);
+        tasks.add(task);
+        place(task);
+        if (bukkitTask == null) {
+            try {
+                bukkitTask = Bukkit.getScheduler().runTaskTimer(PVPArena.instance, this::tick, 1L, 1L);
+            } catch (final IllegalPluginAccessException e) {
+                // plugin disabled - nothing will run anymore
+                task.cancel();
+            }
+        }
+        return task;
+    }
+
+    /**
+     * put a task into the slot of its due tick
+     */
+    private void place(final Task task) {
+        final long window = task.due >> NEAR_BITS;
+        final long distance = window - (tick >> NEAR_BITS);
+        if (distance == 0) {
+            near.get((int) (task.due & NEAR_MASK)).add(task);
+        } else if (distance < FAR_SIZE) {
+            far.get((int) (window & FAR_MASK)).add(task);
+        } else {
+            overflow.add(task);
+        }
+    }
+
+    private void tick() {
+        tick++;
+        if ((tick & NEAR_MASK) == 0) {
+            final long window = tick >> NEAR_BITS;
+            if ((window & FAR_MASK) == 0 && !overflow.isEmpty()) {
+                final List<Task> waiting = new ArrayList<>(overflow);
+                overflow.clear();
+                for (final Task task : waiting) {
+                    if (!task.cancelled) {
+                        place(task);
+                    }
+                }
+            }
+            final List<Task> bucket = far.get((int) (window & FAR_MASK));
+            for (final Task task : bucket) {
+                if (!task.cancelled) {
+                    place(task);
+                }
+            }
+            bucket.clear();
+        }
+
+        final int slot = (int) (tick & NEAR_MASK);
+        final List<Task> bucket = near.get(slot);
+        if (!bucket.isEmpty()) {
+            // swap the slot, tasks may schedule into it while running
+            near.set(slot, running);
+            running = bucket;
+            for (final Task task : running) {
+                if (!task.cancelled) {
+                    task.execute();
+                }
+                if (task.cancelled) {
+                    continue;
+                }
+                if (task.period > 0) {
+                    task.due = tick + task.period;
+                    place(task);
+                } else {
+                    task.cancel();
+                }
+            }
+            running.clear();
+        }
+
+        if (tasks.isEmpty() && bukkitTask != null) {
+            bukkitTask.cancel();
+            bukkitTask = null;
+        }
+    }
+
+    /**
+     * cancel all tasks that do not survive a reset
+     */
+    public void reset() {
+        for (final Task task : new ArrayList<>(tasks)) {
+            if (!task.persistent) {
+                arena.getDebugger().i(task::toString);
+                task.cancel();
+            }
+        }
+    }
+
+    /**
+     * cancel all tasks and stop - to be called when the arena is removed
+     */
+    public void shutdown() {
+        for (final Task task : new ArrayList<>(tasks)) {
+            task.cancel();
+        }
+        if (bukkitTask != null) {
+            bukkitTask.cancel();
+            bukkitTask = null;
+        }
+    }
+
+    /**
+     * @return the number of ticks this scheduler has run, it only advances while tasks are pending
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * @return true if the scheduler ticks, i.e. tasks are pending
+     */
+    public boolean isRunning() {
+        return bukkitTask != null;
+    }
+
+    /**
+     * @return the pending tasks with their timing stats
+     */
+    public List<Task> getTasks() {
+        return Collections.unmodifiableList(new ArrayList<>(tasks));
+    }
+
+    /**
+     * A scheduled piece of work, with its timing stats
+     */
+    public static final class Task {
+        private final ArenaTickScheduler scheduler;
+        private final int id;
+        private final String name;
+        private final Runnable runnable;
+        private final long period;
+        private final boolean persistent;
+        private long due;
+        private boolean cancelled;
+        private long runs;
+        private long totalNanos;
+        private long maxNanos;
+
+        private Task(final ArenaTickScheduler scheduler, final int id, final String name,
+                     final Runnable runnable, final long period, final boolean persistent) {
+            this.scheduler = scheduler;
+            this.id = id;
+            this.name = name;
+            this.runnable = runnable;
+            this.period = period;
+            this.persistent = persistent;
+        }
+
+        private void execute() {
+            final long start = System.nanoTime();
+            try {
+                runnable.run();
+            } catch (final RuntimeException e) {
+                PVPArena.instance.getLogger().log(Level.SEVERE,
+                        "Task " + name + " of arena " + scheduler.arena.getName() + " failed", e);
+            }
+            final long time = System.nanoTime() - start;
+            runs++;
+            totalNanos += time;
+            maxNanos = Math.max(maxNanos, time);
+        }
+
+        /**
+         * stop the task, it will not run again
+         */
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                scheduler.tasks.remove(this);
+            }
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getRuns() {
+            return runs;
+        }
+
+        public long getAverageNanos() {
+            return runs == 0 ? 0 : totalNanos / runs;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        @Override
+        public String toString() {
+            return name + " #" + id + ": " + runs + " runs, avg " + getAverageNanos() / 1000
+                    + "us, max " + maxNanos / 1000 + "us";
+        }
+    }
+}
@@ -1,15 +1,20 @@
 package net.slipcor.pvparena.runnables;
 
 import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.core.Config;
 import net.slipcor.pvparena.core.Config.CFG;
 import net.slipcor.pvparena.managers.InventoryManager;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 /**
  * <pre>Arena Runnable class "DamageReset"</pre>
  * <p/>
- * An arena timer to reset people's armor / weapon
+ * An arena timer to reset people's armor / weapon. Hits are collected and
+ * reset together on the next tick, with one inventory update per player.
  *
  * @author slipcor
  * @version v0.9.8
@@ -18,29 +23,49 @@ import org.bukkit.inventory.ItemStack;
 public class DamageResetRunnable implements Runnable {
 
     private final Arena arena;
-    private final Player attacker;
-    private final Player defender;
+    private final Set<Player> weapons = new LinkedHashSet<>();
+    private final Set<Player> armors = new LinkedHashSet<>();
+    private final Set<Player> updates = new LinkedHashSet<>();
+    private ArenaTickScheduler.Task task;
 
-    public DamageResetRunnable(final Arena arena, final Player attacker, final Player defender) {
+    public DamageResetRunnable(final Arena arena) {
         this.arena = arena;
-        this.attacker = attacker;
-        this.defender = defender;
+    }
+
+    /**
+     * queue a reset of the players' items for the next tick
+     *
+     * @param attacker the player whose weapon to reset, may be null
+     * @param defender the player whose armor to reset, may be null
+     */
+    public void add(final Player attacker, final Player defender) {
+        final Config config = arena.getArenaConfig();
+        if (attacker != null && !config.getBoolean(CFG.DAMAGE_WEAPONS)) {
+            weapons.add(attacker);
+        }
+        if (defender != null && !config.getBoolean(CFG.DAMAGE_ARMOR)) {
+            armors.add(defender);
+        }
+        if ((task == null || task.isCancelled()) && (!weapons.isEmpty() || !armors.isEmpty())) {
+            task = arena.getScheduler().runLater("DamageResetRunnable", this, 1L);
+        }
     }
 
     @SuppressWarnings("deprecation")
     @Override
     public void run() {
-        if (!arena.getArenaConfig().getBoolean(CFG.DAMAGE_WEAPONS)) {
+        for (final Player attacker : weapons) {
             try {
                 if (InventoryManager.receivesDamage(attacker.getItemInHand())) {
                     attacker.getItemInHand().setDurability((short) 0);
-                    attacker.updateInventory();
+                    updates.add(attacker);
                 }
             } catch (final Exception e) {
             }
         }
+        weapons.clear();
 
-        if (!arena.getArenaConfig().getBoolean(CFG.DAMAGE_ARMOR)) {
+        for (final Player defender : armors) {
             try {
                 final ItemStack[] items = defender.getInventory().getArmorContents();
 
@@ -50,10 +75,31 @@ public class DamageResetRunnable implements Runnable {
                     }
                     is.setDurability((short) 0);
                 }
-                defender.updateInventory();
+                updates.add(defender);
             } catch (final Exception e) {
             }
         }
+        armors.clear();
+
+        for (final Player player : updates) {
+            if (player.isOnline()) {
+                player.updateInventory();
+            }
+        }
+        updates.clear();
     }
 
+    /**
+     * drop all queued resets - to be called on arena reset, the players may
+     * have their own inventory back by the time the next hit happens
+     */
+    public void reset() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        weapons.clear();
+        armors.clear();
+        updates.clear();
+    }
 }
@@ -0,0 +1,148 @@
+package net.slipcor.pvparena.runnables;
+
+import net.slipcor.pvparena.classes.PABlockLocation;
+import net.slipcor.pvparena.loadables.ArenaRegion;
+import net.slipcor.pvparena.loadables.ArenaRegionShape;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Hanging;
+import org.bukkit.entity.Player;
+
+import java.util.Set;
+
+/**
+ * <pre>
+ * Arena Runnable class "RegionEntitySweep"
+ * </pre>
+ * <p/>
+ * Removes the entities of a region, only visiting the loaded chunks that
+ * overlap the region bounds. Large regions can be swept a few chunks per tick
+ * on the arena scheduler, so an arena reset or removal stops the sweep.
+ *
+ * @author slipcor
+ */
+
+public class RegionEntitySweepRunnable extends ArenaTickRunnable {
+    private final ArenaRegion region;
+    private final World world;
+    private final Set<EntityType> exceptions;
+    private final int minChunkX;
+    private final int minChunkZ;
+    private final int maxChunkX;
+    private final int maxChunkZ;
+    private int chunksPerRun;
+    private int nextX;
+    private int nextZ;
+    private int removed;
+
+    /**
+     * create a sweep of a region
+     *
+     * @param region     the region to clear
+     * @param world      the world of the region
+     * @param exceptions the entity types to keep
+     */
+    public RegionEntitySweepRunnable(final ArenaRegion region, final World world,
+                                     final Set<EntityType> exceptions) {
+        this.region = region;
+        this.world = world;
+        this.exceptions = exceptions;
+
+        if (region.locs[0] == null || region.locs[1] == null) {
+            // nothing to contain anything
+            minChunkX = 0;
+            minChunkZ = 0;
+            maxChunkX = -1;
+            maxChunkZ = -1;
+        } else {
+            final PABlockLocation min = region.getShape().getMinimumLocation();
+            final PABlockLocation max = region.getShape().getMaximumLocation();
+            minChunkX = Math.min(min.getX(), max.getX()) >> 4;
+            minChunkZ = Math.min(min.getZ(), max.getZ()) >> 4;
+            maxChunkX = Math.max(min.getX(), max.getX()) >> 4;
+            maxChunkZ = Math.max(min.getZ(), max.getZ()) >> 4;
+        }
+        nextX = minChunkX;
+        nextZ = minChunkZ;
+    }
+
+    /**
+     * @return the number of chunks overlapping the region bounds
+     */
+    public long getChunkCount() {
+        if (maxChunkX < minChunkX) {
+            return 0;
+        }
+        return (long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+    }
+
+    /**
+     * sweep the first chunks now and the remaining ones over the next ticks
+     *
+     * @param perTick the chunks to visit per tick
+     */
+    public void start(final int perTick) {
+        chunksPerRun = perTick;
+        if (!sweep(perTick)) {
+            runTaskTimer(region.getArena(), 1L, 1L);
+        }
+    }
+
+    /**
+     * visit all remaining chunks now
+     */
+    public void finish() {
+        cancel();
+        if (nextX <= maxChunkX) {
+            sweep(Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * visit the next chunks
+     *
+     * @param maxChunks the maximum number of chunks to visit
+     * @return true if all chunks have been visited
+     */
+    public boolean sweep(final int maxChunks) {
+        final ArenaRegionShape shape = region.getShape();
+        int visited = 0;
+        while (nextX <= maxChunkX && visited < maxChunks) {
+            if (world.isChunkLoaded(nextX, nextZ)) {
+                for (final Entity entity : world.getChunkAt(nextX, nextZ).getEntities()) {
+                    if (entity instanceof Player || entity instanceof Hanging
+                            || exceptions.contains(entity.getType())
+                            || entity.hasMetadata("NPC")) {
+                        continue;
+                    }
+                    if (!shape.contains(new PABlockLocation(entity.getLocation()))) {
+                        continue;
+                    }
+                    entity.remove();
+                    removed++;
+                }
+            }
+            visited++;
+            if (++nextZ > maxChunkZ) {
+                nextZ = minChunkZ;
+                nextX++;
+            }
+        }
+        if (nextX > maxChunkX) {
+            region.getArena().getDebugger().i("removed " + removed + " entities from region " + region.getRegionName());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * the run method, sweep the next chunks
+     */
+    @Override
+    public void run() {
+        if (sweep(chunksPerRun)) {
+            cancel();
+        }
+    }
+}
@@ -2,7 +2,6 @@ package net.slipcor.pvparena.runnables;
 
 import net.slipcor.pvparena.arena.Arena;
 import net.slipcor.pvparena.core.Config.CFG;
-import org.bukkit.Bukkit;
 
 /**
  * <pre>Arena Runnable class "SpawnCamp"</pre>
@@ -13,10 +12,9 @@ import org.bukkit.Bukkit;
  * @version v0.9.8
  */
 
-public class SpawnCampRunnable implements Runnable {
+public class SpawnCampRunnable extends ArenaTickRunnable {
     private final Arena arena;
     //	private final static Debug DEBUG = new Debug(44);
-    private int iID;
 
     /**
      * create a spawn camp runnable
@@ -24,7 +22,6 @@ public class SpawnCampRunnable implements Runnable {
      * @param arena the arena we are running in
      */
     public SpawnCampRunnable(final Arena arena) {
-        iID = 0;
         this.arena = arena;
         arena.getDebugger().i("SpawnCampRunnable constructor");
     }
@@ -39,12 +36,8 @@ public class SpawnCampRunnable implements Runnable {
             arena.spawnCampPunish();
         } else {
             // deactivate the auto saving task
-            Bukkit.getServer().getScheduler().cancelTask(iID);
+            cancel();
             arena.spawnCampRunnerID = -1;
         }
     }
-
-    public void setId(final int runID) {
-        iID = runID;
-    }
 }
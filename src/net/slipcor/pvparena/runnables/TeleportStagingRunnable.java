@@ -0,0 +1,219 @@
+package net.slipcor.pvparena.runnables;
+
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.classes.PALocation;
+import net.slipcor.pvparena.core.Config.CFG;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+
+import java.util.*;
+
+/**
+ * <pre>Arena Runnable class "TeleportStaging"</pre>
+ * <p/>
+ * Spreads the teleports of an arena over ticks, at most tp.perTick per tick.
+ * During the start countdown the chunks of the fight spawns are loaded a few
+ * per tick and kept loaded until the fighters arrived, so the teleports at
+ * match start do not load chunks.
+ *
+ * @author slipcor
+ */
+
+public class TeleportStagingRunnable implements Runnable {
+    private static final int CHUNKS_PER_TICK = 2;
+
+    private final Arena arena;
+    private final Deque<Runnable> teleports = new ArrayDeque<>();
+    private final Deque<ChunkKey> chunksToLoad = new ArrayDeque<>();
+    private final Set<ChunkKey> chunksQueued = new HashSet<>();
+    private final List<Chunk> pinned = new ArrayList<>();
+
+    private ArenaTickScheduler.Task teleportTask;
+    private ArenaTickScheduler.Task prewarmTask;
+
+    private long teleportCount;
+    private long teleportTicks;
+    private int maxTeleportsPerTick;
+    private long chunkCount;
+    private long chunkNanos;
+    private long maxChunkNanos;
+
+    public TeleportStagingRunnable(final Arena arena) {
+        this.arena = arena;
+    }
+
+    /**
+     * load and pin the chunks of the fight spawns, a few per tick
+     */
+    public void prewarm() {
+        for (final PALocation loc : arena.getSpawnIndex().getSpawnLocationsContaining("spawn")) {
+            final ChunkKey key = new ChunkKey(loc.getWorldName(),
+                    (int) Math.floor(loc.getX()) >> 4, (int) Math.floor(loc.getZ()) >> 4);
+            if (chunksQueued.add(key)) {
+                chunksToLoad.add(key);
+            }
+        }
+        if (!chunksToLoad.isEmpty() && (prewarmTask == null || prewarmTask.isCancelled())) {
+            prewarmTask = arena.getScheduler().runTimer("ChunkPrewarm", this::loadChunks, 1L, 1L);
+        }
+    }
+
+    private void loadChunks() {
+        for (int i = 0; i < CHUNKS_PER_TICK && !chunksToLoad.isEmpty(); i++) {
+            final ChunkKey key = chunksToLoad.poll();
+            final World world = Bukkit.getWorld(key.world);
+            if (world == null) {
+                continue;
+            }
+            final long start = System.nanoTime();
+            final Chunk chunk = world.getChunkAt(key.x, key.z);
+            final long time = System.nanoTime() - start;
+            chunkCount++;
+            chunkNanos += time;
+            maxChunkNanos = Math.max(maxChunkNanos, time);
+
+            // only pin what nobody else did, so releasing does not unpin theirs
+            if (!chunk.isForceLoaded()) {
+                chunk.setForceLoaded(true);
+                pinned.add(chunk);
+            }
+        }
+        if (chunksToLoad.isEmpty()) {
+            prewarmTask.cancel();
+            prewarmTask = null;
+        }
+    }
+
+    /**
+     * teleport in one of the next ticks, in order of staging
+     *
+     * @param teleport the teleport to run
+     */
+    public void stage(final Runnable teleport) {
+        teleports.add(teleport);
+        if (teleportTask == null || teleportTask.isCancelled()) {
+            teleportTask = arena.getScheduler().runTimer("TeleportStaging", this, 1L, 1L);
+        }
+    }
+
+    @Override
+    public void run() {
+        final int budget = arena.getArenaConfig().getInt(CFG.TP_PERTICK);
+        int done = 0;
+        while (!teleports.isEmpty() && (budget < 1 || done < budget)) {
+            teleports.poll().run();
+            done++;
+        }
+        if (done > 0) {
+            teleportCount += done;
+            teleportTicks++;
+            maxTeleportsPerTick = Math.max(maxTeleportsPerTick, done);
+        }
+        if (teleports.isEmpty()) {
+            teleportTask.cancel();
+            teleportTask = null;
+            if (arena.isFightInProgress()) {
+                release();
+            }
+        }
+    }
+
+    /**
+     * unpin the prewarmed chunks, unless teleports are still pending - they
+     * unpin them when they are done. To be called once the match started, as
+     * a distribution may not have staged anything.
+     */
+    public void releaseIfIdle() {
+        if (teleports.isEmpty()) {
+            release();
+        }
+    }
+
+    /**
+     * unpin the prewarmed chunks and stop loading more
+     */
+    public void release() {
+        if (prewarmTask != null) {
+            prewarmTask.cancel();
+            prewarmTask = null;
+        }
+        chunksToLoad.clear();
+        chunksQueued.clear();
+        for (final Chunk chunk : pinned) {
+            chunk.setForceLoaded(false);
+        }
+        pinned.clear();
+    }
+
+    /**
+     * drop all pending teleports and pins - to be called on arena reset
+     */
+    public void reset() {
+        if (teleportTask != null) {
+            teleportTask.cancel();
+            teleportTask = null;
+        }
+        teleports.clear();
+        release();
+        arena.getDebugger().i(this::toString);
+    }
+
+    public long getTeleportCount() {
+        return teleportCount;
+    }
+
+    public double getAverageTeleportsPerTick() {
+        return teleportTicks == 0 ? 0 : (double) teleportCount / teleportTicks;
+    }
+
+    public int getMaxTeleportsPerTick() {
+        return maxTeleportsPerTick;
+    }
+
+    public long getChunkCount() {
+        return chunkCount;
+    }
+
+    public long getAverageChunkNanos() {
+        return chunkCount == 0 ? 0 : chunkNanos / chunkCount;
+    }
+
+    public long getMaxChunkNanos() {
+        return maxChunkNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "TeleportStaging: " + teleportCount + " teleports, avg "
+                + String.format("%.1f", getAverageTeleportsPerTick()) + " / max " + maxTeleportsPerTick
+                + " per tick; " + chunkCount + " chunks prewarmed, avg " + getAverageChunkNanos() / 1000
+                + "us, max " + maxChunkNanos / 1000 + "us";
+    }
+
+    private static final class ChunkKey {
+        private final String world;
+        private final int x;
+        private final int z;
+
+        private ChunkKey(final String world, final int x, final int z) {
+            this.world = world;
+            this.x = x;
+            this.z = z;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof ChunkKey)) {
+                return false;
+            }
+            final ChunkKey key = (ChunkKey) other;
+            return x == key.x && z == key.z && world.equals(key.world);
+        }
+
+        @Override
+        public int hashCode() {
+            return (world.hashCode() * 31 + x) * 31 + z;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package net.slipcor.pvparena.statistics;
+
+import java.util.*;
+
+/**
+ * <pre>
+ * PVP Arena Leaderboard class
+ * </pre>
+ * <p/>
+ * The best players of one statistic, kept sorted by value (highest first,
+ * then by name). Only the top entries are held, players below them are left
+ * in the statistics store. Updates are O(log n) in the size of the top.
+ * <p/>
+ * A board is stale when it cannot tell its top anymore, e.g. when a listed
+ * player dropped below players that were not kept. It then has to be filled
+ * again from the store.
+ *
+ * @author slipcor
+ */
+
+public class Leaderboard {
+    private final int capacity;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final NavigableSet<Entry> ranking = new TreeSet<>();
+    // players below the kept entries may exist
+    private boolean truncated;
+    private boolean stale = true;
+
+    /**
+     * @param capacity the number of entries to keep
+     */
+    public Leaderboard(final int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * set the value of a player
+     *
+     * @param name  the player name
+     * @param value the new value
+     */
+    public synchronized void set(final String name, final int value) {
+        final Entry entry = new Entry(name, value);
+        final Entry old = entries.remove(name);
+        if (old != null) {
+            ranking.remove(old);
+            if (truncated && value < old.value && (ranking.isEmpty() || entry.compareTo(ranking.last()) > 0)) {
+                // it might be below players that were not kept
+                stale = true;
+            }
+        }
+        offer(entry);
+    }
+
+    private void offer(final Entry entry) {
+        if (ranking.size() >= capacity) {
+            truncated = true;
+            if (ranking.isEmpty() || entry.compareTo(ranking.last()) >= 0) {
+                return;
+            }
+            entries.remove(ranking.pollLast().name);
+        }
+        entries.put(entry.name, entry);
+        ranking.add(entry);
+    }
+
+    /**
+     * replace the board with the best of the given values
+     *
+     * @param values the values of all players
+     * @param index  the index of this statistic in the value arrays
+     */
+    public synchronized void fill(final Map<String, int[]> values, final int index) {
+        entries.clear();
+        ranking.clear();
+        truncated = false;
+        for (final Map.Entry<String, int[]> value : values.entrySet()) {
+            offer(new Entry(value.getKey(), value.getValue()[index]));
+        }
+        stale = false;
+    }
+
+    /**
+     * mark the board to be filled again from the store
+     */
+    public synchronized void markStale() {
+        stale = true;
+    }
+
+    public synchronized boolean isStale() {
+        return stale;
+    }
+
+    /**
+     * @return the number of listed players
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * check if a page can be read from this board
+     *
+     * @param page     the page, starting at 0
+     * @param pageSize the entries per page
+     * @return false if the page may hold players that were not kept
+     */
+    public synchronized boolean covers(final int page, final int pageSize) {
+        return !stale && (!truncated || (long) (page + 1) * pageSize <= ranking.size());
+    }
+
+    /**
+     * get the best players
+     *
+     * @param count the maximum number of entries
+     * @return the entries, best first
+     */
+    public List<Entry> getTop(final int count) {
+        return getPage(0, count);
+    }
+
+    /**
+     * get a page of the kept ranking
+     *
+     * @param page     the page, starting at 0
+     * @param pageSize the entries per page
+     * @return the entries of that page, best first
+     */
+    public synchronized List<Entry> getPage(final int page, final int pageSize) {
+        if (page < 0 || pageSize <= 0) {
+            return Collections.emptyList();
+        }
+        final long skip = (long) page * pageSize;
+        if (skip >= ranking.size()) {
+            return Collections.emptyList();
+        }
+        final List<Entry> result = new ArrayList<>(Math.min(pageSize, ranking.size()));
+        final Iterator<Entry> iterator = ranking.iterator();
+        for (long i = 0; i < skip; i++) {
+            iterator.next();
+        }
+        while (iterator.hasNext() && result.size() < pageSize) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    /**
+     * rank values that are not kept in a board, only holding what the page needs
+     *
+     * @param values   the values of all players
+     * @param index    the index of the statistic in the value arrays
+     * @param page     the page, starting at 0
+     * @param pageSize the entries per page
+     * @return the entries of that page, best first
+     */
+    public static List<Entry> getPage(final Map<String, int[]> values, final int index,
+                                      final int page, final int pageSize) {
+        if (page < 0 || pageSize <= 0) {
+            return Collections.emptyList();
+        }
+        final long needed = (long) (page + 1) * pageSize;
+        final Leaderboard board = new Leaderboard((int) Math.min(needed, Math.max(1, values.size())));
+        board.fill(values, index);
+        return board.getPage(page, pageSize);
+    }
+
+    /**
+     * One ranked player
+     */
+    public static final class Entry implements Comparable<Entry> {
+        private final String name;
+        private final int value;
+
+        private Entry(final String name, final int value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getValue() {
+            return value;
+        }
+
+        @Override
+        public int compareTo(final Entry other) {
+            final int result = Integer.compare(other.value, value);
+            return result == 0 ? name.compareTo(other.name) : result;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof Entry)) {
+                return false;
+            }
+            final Entry entry = (Entry) other;
+            return value == entry.value && name.equals(entry.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * name.hashCode() + value;
+        }
+    }
+}
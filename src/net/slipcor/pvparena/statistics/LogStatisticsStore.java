@@ -0,0 +1,393 @@
+package net.slipcor.pvparena.statistics;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * <pre>
+ * PVP Arena Log Statistics Store class
+ * </pre>
+ * <p/>
+ * An append only log of statistics records. Every put appends one record,
+ * the newest record of a player wins. Only the position of each player's
+ * newest record is kept in memory, entries are read from the file on demand.
+ * <p/>
+ * Every record starts with a marker, its size and a CRC of its content. On
+ * open the records are scanned sequentially, a damaged record is skipped by
+ * searching the next valid marker. The log is compacted by flush() once it
+ * holds mostly outdated records.
+ *
+ * @author slipcor
+ */
+
+public class LogStatisticsStore implements StatisticsStore {
+    private static final int MAGIC = 0x50415354;
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 8;
+    private static final int RECORD_MARK = 0x52454344;
+    // marker, size and CRC
+    private static final int RECORD_HEADER_SIZE = 12;
+    private static final int MAX_RECORD_SIZE = 1 << 16;
+    private static final int COMPACT_THRESHOLD = 1024;
+
+    private final File file;
+    private final Logger logger;
+    private final Map<String, Map<String, Long>> index = new HashMap<>();
+    private RandomAccessFile data;
+    private long records;
+    private long live;
+    private boolean changed;
+
+    /**
+     * @param file   the log file
+     * @param logger the logger to report damaged records to
+     */
+    public LogStatisticsStore(final File file, final Logger logger) {
+        this.file = file;
+        this.logger = logger;
+    }
+
+    @Override
+    public synchronized void open() throws IOException {
+        index.clear();
+        records = 0;
+        live = 0;
+        data = new RandomAccessFile(file, "rw");
+        if (data.length() < HEADER_SIZE) {
+            data.setLength(0);
+            data.writeInt(MAGIC);
+            data.writeInt(VERSION);
+            return;
+        }
+        final int magic = data.readInt();
+        final int version = data.readInt();
+        if (magic != MAGIC || version < 1 || version > VERSION) {
+            data.close();
+            throw new IOException(file.getName() + " is not a statistics log");
+        }
+        if (version == 1) {
+            upgrade();
+        } else {
+            scan();
+        }
+        if (needsCompaction()) {
+            compact();
+        }
+    }
+
+    /**
+     * read the positions of all records through a buffer, skipping damaged
+     * records and cutting off a record that has only been written partially
+     */
+    private void scan() throws IOException {
+        final long length = data.length();
+        long pos = HEADER_SIZE;
+        DataInputStream in = openAt(pos);
+        try {
+            while (pos + RECORD_HEADER_SIZE <= length) {
+                final byte[] payload = readRecord(in, pos, length);
+                if (payload == null) {
+                    final long next = findRecord(pos + 1, length);
+                    if (next < 0) {
+                        break;
+                    }
+                    logger.warning(file.getName() + ": skipped " + (next - pos) +
+                            " damaged bytes at position " + pos);
+                    pos = next;
+                    in.close();
+                    in = openAt(pos);
+                    continue;
+                }
+                final DataInputStream record = new DataInputStream(new ByteArrayInputStream(payload));
+                final String arena = record.readUTF();
+                final String node = record.readUTF();
+                if (index.computeIfAbsent(arena, k -> new HashMap<>()).put(node, pos) == null) {
+                    live++;
+                }
+                records++;
+                pos += RECORD_HEADER_SIZE + payload.length;
+            }
+        } finally {
+            in.close();
+        }
+        if (pos < length) {
+            logger.warning(file.getName() + ": cut off " + (length - pos) +
+                    " bytes of a damaged or incomplete record at position " + pos);
+            data.setLength(pos);
+        }
+    }
+
+    private DataInputStream openAt(final long pos) throws IOException {
+        // a stream of its own, the positions of data are left alone
+        final FileInputStream stream = new FileInputStream(file);
+        stream.getChannel().position(pos);
+        return new DataInputStream(new BufferedInputStream(Channels.newInputStream(stream.getChannel()), 1 << 16));
+    }
+
+    /**
+     * read the record at the current position of a stream
+     *
+     * @return the payload, null if the record is damaged or incomplete
+     */
+    private static byte[] readRecord(final DataInput in, final long pos, final long length) throws IOException {
+        if (in.readInt() != RECORD_MARK) {
+            return null;
+        }
+        final int size = in.readInt();
+        final int crc = in.readInt();
+        if (size <= 0 || size > MAX_RECORD_SIZE || pos + RECORD_HEADER_SIZE + size > length) {
+            return null;
+        }
+        final byte[] payload = new byte[size];
+        in.readFully(payload);
+        return checksum(payload) == crc ? payload : null;
+    }
+
+    /**
+     * search the next valid record
+     *
+     * @param from   the position to start at
+     * @param length the length of the file
+     * @return the position of the record, -1 if there is none
+     */
+    private long findRecord(final long from, final long length) throws IOException {
+        final byte[] buffer = new byte[1 << 16];
+        long start = from;
+        while (start + RECORD_HEADER_SIZE <= length) {
+            data.seek(start);
+            final int read = data.read(buffer, 0, (int) Math.min(buffer.length, length - start));
+            for (int i = 0; i + 4 <= read; i++) {
+                final int mark = (buffer[i] & 0xFF) << 24 | (buffer[i + 1] & 0xFF) << 16
+                        | (buffer[i + 2] & 0xFF) << 8 | (buffer[i + 3] & 0xFF);
+                if (mark == RECORD_MARK && start + i + RECORD_HEADER_SIZE <= length) {
+                    data.seek(start + i);
+                    if (readRecord(data, start + i, length) != null) {
+                        return start + i;
+                    }
+                }
+            }
+            start += Math.max(1, read - 3);
+        }
+        return -1;
+    }
+
+    /**
+     * rewrite a log of version 1, which had no markers and checksums
+     */
+    private void upgrade() throws IOException {
+        final long length = data.length();
+        final File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+        long pos = HEADER_SIZE;
+        try (DataInputStream in = openAt(pos);
+             FileOutputStream stream = new FileOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            while (pos + 4 <= length) {
+                final int size = in.readInt();
+                if (size <= 0 || pos + 4 + size > length) {
+                    break;
+                }
+                final byte[] payload = new byte[size];
+                in.readFully(payload);
+                writeRecord(out, payload);
+                pos += 4 + size;
+            }
+            out.flush();
+            stream.getFD().sync();
+        }
+        if (pos < length) {
+            logger.warning(file.getName() + ": dropped " + (length - pos) +
+                    " bytes of an incomplete record at position " + pos);
+        }
+        replace(temp);
+    }
+
+    private boolean needsCompaction() {
+        return records > live * 2 + COMPACT_THRESHOLD;
+    }
+
+    /**
+     * rewrite the log with only the newest record of every player
+     */
+    private void compact() throws IOException {
+        final File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+        try (FileOutputStream stream = new FileOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            for (final Map<String, Long> nodes : index.values()) {
+                for (final long pos : nodes.values()) {
+                    writeRecord(out, readPayload(pos));
+                }
+            }
+            out.flush();
+            stream.getFD().sync();
+        }
+        replace(temp);
+    }
+
+    /**
+     * move a rewritten log in place and read it
+     */
+    private void replace(final File temp) throws IOException {
+        data.close();
+        try {
+            Files.move(temp.toPath(), file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        index.clear();
+        records = 0;
+        live = 0;
+        data = new RandomAccessFile(file, "rw");
+        scan();
+    }
+
+    @Override
+    public synchronized Set<String> getArenaNames() {
+        return new HashSet<>(index.keySet());
+    }
+
+    @Override
+    public synchronized Entry get(final String arena, final String node) {
+        final Map<String, Long> nodes = index.get(arena);
+        final Long pos = nodes == null ? null : nodes.get(node);
+        if (pos == null) {
+            return null;
+        }
+        try {
+            return read(pos);
+        } catch (final IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void forEach(final String arena, final BiConsumer<String, Entry> consumer) {
+        final Map<String, Entry> entries = new LinkedHashMap<>();
+        synchronized (this) {
+            final Map<String, Long> nodes = index.get(arena);
+            if (nodes == null) {
+                return;
+            }
+            for (final Map.Entry<String, Long> node : nodes.entrySet()) {
+                try {
+                    entries.put(node.getKey(), read(node.getValue()));
+                } catch (final IOException ignored) {
+                }
+            }
+        }
+        entries.forEach(consumer);
+    }
+
+    @Override
+    public synchronized void put(final String arena, final String node, final Entry entry) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(arena);
+            out.writeUTF(node);
+            out.writeBoolean(entry.getPlayerName() != null);
+            if (entry.getPlayerName() != null) {
+                out.writeUTF(entry.getPlayerName());
+            }
+            out.writeByte(TYPES.length);
+            for (int i = 0; i < TYPES.length; i++) {
+                out.writeInt(entry.getValue(i));
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        final ByteArrayOutputStream record = new ByteArrayOutputStream(RECORD_HEADER_SIZE + bytes.size());
+        try {
+            writeRecord(new DataOutputStream(record), bytes.toByteArray());
+            final long pos = data.length();
+            data.seek(pos);
+            data.write(record.toByteArray());
+            if (index.computeIfAbsent(arena, k -> new HashMap<>()).put(node, pos) == null) {
+                live++;
+            }
+            records++;
+            changed = true;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * write the changes to disk, and compact the log once it holds mostly
+     * outdated records - to be called by the writer thread
+     */
+    @Override
+    public void flush() throws IOException {
+        final FileDescriptor descriptor;
+        synchronized (this) {
+            if (!changed) {
+                return;
+            }
+            descriptor = data.getFD();
+            changed = false;
+        }
+        // readers do not wait for the disk
+        descriptor.sync();
+        synchronized (this) {
+            if (needsCompaction()) {
+                compact();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (data != null) {
+            flush();
+            data.close();
+            data = null;
+        }
+    }
+
+    private static void writeRecord(final DataOutput out, final byte[] payload) throws IOException {
+        out.writeInt(RECORD_MARK);
+        out.writeInt(payload.length);
+        out.writeInt(checksum(payload));
+        out.write(payload);
+    }
+
+    private static int checksum(final byte[] payload) {
+        final CRC32 crc = new CRC32();
+        crc.update(payload, 0, payload.length);
+        return (int) crc.getValue();
+    }
+
+    private byte[] readPayload(final long pos) throws IOException {
+        data.seek(pos + 4);
+        final byte[] payload = new byte[data.readInt()];
+        data.readInt();
+        data.readFully(payload);
+        return payload;
+    }
+
+    private Entry read(final long pos) throws IOException {
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(readPayload(pos)));
+        in.readUTF();
+        in.readUTF();
+        final String playerName = in.readBoolean() ? in.readUTF() : null;
+        final int count = in.readUnsignedByte();
+        final int[] values = new int[TYPES.length];
+        for (int i = 0; i < count; i++) {
+            final int value = in.readInt();
+            if (i < values.length) {
+                values[i] = value;
+            }
+        }
+        return new Entry(playerName, values);
+    }
+}
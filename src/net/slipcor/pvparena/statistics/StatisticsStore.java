@@ -0,0 +1,118 @@
+package net.slipcor.pvparena.statistics;
+
+import net.slipcor.pvparena.managers.StatisticsManager.Type;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * <pre>
+ * PVP Arena Statistics Store interface
+ * </pre>
+ * <p/>
+ * Persists the statistics of players per arena. A player is stored by a node,
+ * which is the UUID if it is known and the player name otherwise.
+ * Implementations have to be safe to use from the server thread and the
+ * statistics writer thread at the same time.
+ *
+ * @author slipcor
+ */
+
+public interface StatisticsStore {
+    /**
+     * the stored statistics, in the order of Entry values
+     */
+    Type[] TYPES = {Type.LOSSES, Type.WINS, Type.KILLS, Type.DEATHS,
+            Type.DAMAGE, Type.MAXDAMAGE, Type.DAMAGETAKE, Type.MAXDAMAGETAKE};
+
+    /**
+     * open the store, creating it if necessary
+     *
+     * @throws IOException if the store could not be read
+     */
+    void open() throws IOException;
+
+    /**
+     * @return the names of the arenas with stored statistics
+     */
+    Set<String> getArenaNames();
+
+    /**
+     * get the statistics of a player in an arena
+     *
+     * @param arena the arena name
+     * @param node  the player node
+     * @return the entry, null if there is none
+     */
+    Entry get(String arena, String node);
+
+    /**
+     * visit all player entries of an arena
+     *
+     * @param arena    the arena name
+     * @param consumer called with the node and entry of each player
+     */
+    void forEach(String arena, BiConsumer<String, Entry> consumer);
+
+    /**
+     * store the statistics of a player in an arena, replacing the old ones.
+     * The change is only guaranteed to be on disk after flush()
+     *
+     * @param arena the arena name
+     * @param node  the player node
+     * @param entry the statistics to store
+     */
+    void put(String arena, String node, Entry entry);
+
+    /**
+     * write all changes to disk
+     *
+     * @throws IOException if writing failed
+     */
+    void flush() throws IOException;
+
+    /**
+     * flush and release the store
+     *
+     * @throws IOException if writing failed
+     */
+    void close() throws IOException;
+
+    /**
+     * The immutable statistics of one player in one arena
+     */
+    final class Entry {
+        private final String playerName;
+        private final int[] values;
+
+        /**
+         * @param playerName the player name, if the node is not the name, or null
+         * @param values     the values, ordered like TYPES
+         */
+        public Entry(final String playerName, final int[] values) {
+            if (values.length != TYPES.length) {
+                throw new IllegalArgumentException("expected " + TYPES.length + " values, got " + values.length);
+            }
+            this.playerName = playerName;
+            this.values = values.clone();
+        }
+
+        public String getPlayerName() {
+            return playerName;
+        }
+
+        public int getValue(final int index) {
+            return values[index];
+        }
+
+        public int getValue(final Type type) {
+            for (int i = 0; i < TYPES.length; i++) {
+                if (TYPES[i] == type) {
+                    return values[i];
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package net.slipcor.pvparena.statistics;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+/**
+ * <pre>
+ * PVP Arena YAML Statistics Store class
+ * </pre>
+ * <p/>
+ * The classic players.yml: one section per arena, holding one section per
+ * player node. Every flush rewrites the whole file.
+ * <p/>
+ * YAML has no index to seek to a single player, so this store is not
+ * streamed: open() parses the whole file and all players are held in memory
+ * until the store is closed. Servers with many recorded players should use
+ * the log store (stats_storage: log), which keeps only record positions in
+ * memory.
+ * <p/>
+ * The players are kept as immutable entries in concurrent maps, so reads
+ * never wait for a flush. A flush serializes the entries without a lock.
+ *
+ * @author slipcor
+ */
+
+public class YamlStatisticsStore implements StatisticsStore {
+    private final File file;
+    private final Map<String, Map<String, Entry>> arenas = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private final AtomicBoolean changed = new AtomicBoolean();
+
+    public YamlStatisticsStore(final File file) {
+        this.file = file;
+    }
+
+    /**
+     * read the whole file into memory
+     */
+    @Override
+    public void open() throws IOException {
+        if (!file.exists()) {
+            file.createNewFile();
+        }
+        final YamlConfiguration config = new YamlConfiguration();
+        try {
+            config.load(file);
+        } catch (final InvalidConfigurationException e) {
+            throw new IOException(e);
+        }
+        arenas.clear();
+        for (final String arena : config.getKeys(false)) {
+            final ConfigurationSection section = config.getConfigurationSection(arena);
+            if (section == null) {
+                continue;
+            }
+            final Map<String, Entry> nodes = new ConcurrentHashMap<>();
+            for (final String node : section.getKeys(false)) {
+                final Entry entry = read(section.getConfigurationSection(node));
+                if (entry != null) {
+                    nodes.put(node, entry);
+                }
+            }
+            arenas.put(arena, nodes);
+        }
+    }
+
+    @Override
+    public Set<String> getArenaNames() {
+        return new HashSet<>(arenas.keySet());
+    }
+
+    @Override
+    public Entry get(final String arena, final String node) {
+        final Map<String, Entry> nodes = arenas.get(arena);
+        return nodes == null ? null : nodes.get(node);
+    }
+
+    @Override
+    public void forEach(final String arena, final BiConsumer<String, Entry> consumer) {
+        final Map<String, Entry> nodes = arenas.get(arena);
+        if (nodes != null) {
+            nodes.forEach(consumer);
+        }
+    }
+
+    @Override
+    public void put(final String arena, final String node, final Entry entry) {
+        arenas.computeIfAbsent(arena, k -> new ConcurrentHashMap<>()).put(node, entry);
+        changed.set(true);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        synchronized (writeLock) {
+            if (!changed.getAndSet(false)) {
+                return;
+            }
+            // puts during the serialization mark the store changed again
+            final YamlConfiguration config = new YamlConfiguration();
+            for (final Map.Entry<String, Map<String, Entry>> arena : arenas.entrySet()) {
+                final ConfigurationSection section = config.createSection(arena.getKey());
+                for (final Map.Entry<String, Entry> node : arena.getValue().entrySet()) {
+                    write(section.createSection(node.getKey()), node.getValue());
+                }
+            }
+            final String data = config.saveToString();
+
+            final File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+            Files.write(temp.toPath(), data.getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(temp.toPath(), file.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    private static void write(final ConfigurationSection section, final Entry entry) {
+        for (int i = 0; i < TYPES.length; i++) {
+            section.set(TYPES[i].name().toLowerCase(), entry.getValue(i));
+        }
+        if (entry.getPlayerName() != null) {
+            section.set("playerName", entry.getPlayerName());
+        }
+    }
+
+    private static Entry read(final ConfigurationSection section) {
+        if (section == null) {
+            return null;
+        }
+        final int[] values = new int[TYPES.length];
+        for (int i = 0; i < TYPES.length; i++) {
+            values[i] = section.getInt(TYPES[i].name().toLowerCase(), 0);
+        }
+        String playerName = section.getString("playerName");
+        if (playerName == null) {
+            // statistics written by older versions
+            playerName = section.getString("name");
+        }
+        return new Entry(playerName, values);
+    }
+}
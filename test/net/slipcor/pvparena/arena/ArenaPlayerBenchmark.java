@@ -0,0 +1,158 @@
+package net.slipcor.pvparena.arena;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * <pre>
+ * PVP Arena Player Benchmark class
+ * </pre>
+ * <p/>
+ * Eight threads looking up online players at the same time, like event
+ * handlers of the server thread and async chat do:
+ * <pre>
+ * - synchronizedByName: the former parsePlayer(String), holding the class
+ *   monitor while asking the server and reading a HashMap
+ * - concurrentByName: parsePlayer(String)
+ * - concurrentByPlayer: parsePlayer(Player), for handlers holding the Player
+ * </pre>
+ * The server and the players are proxies, every lookup pays the same for
+ * their calls.
+ *
+ * @author slipcor
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArenaPlayerBenchmark {
+    private static final Map<String, Player> ONLINE = new ConcurrentHashMap<>();
+    private static final Map<String, ArenaPlayer> SYNCHRONIZED_PLAYERS = new HashMap<>();
+
+    @Param({"20", "200"})
+    public int playerCount;
+
+    private Player[] players;
+    private String[] names;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        int next(final int size) {
+            next = next + 1 == size ? 0 : next + 1;
+            return next;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        if (Bukkit.getServer() == null) {
+            Bukkit.setServer(server());
+        }
+        players = new Player[playerCount];
+        names = new String[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            names[i] = "player" + i;
+            players[i] = player(names[i], UUID.nameUUIDFromBytes(names[i].getBytes()));
+            ONLINE.put(names[i], players[i]);
+        }
+        for (final Player player : players) {
+            SYNCHRONIZED_PLAYERS.put(player.getName(), ArenaPlayer.parsePlayer(player));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (final String name : names) {
+            ArenaPlayer.unloadPlayer(name);
+        }
+        ONLINE.clear();
+        SYNCHRONIZED_PLAYERS.clear();
+    }
+
+    @Benchmark
+    public ArenaPlayer synchronizedByName(final Cursor cursor) {
+        return parseSynchronized(names[cursor.next(playerCount)]);
+    }
+
+    @Benchmark
+    public ArenaPlayer concurrentByName(final Cursor cursor) {
+        return ArenaPlayer.parsePlayer(names[cursor.next(playerCount)]);
+    }
+
+    @Benchmark
+    public ArenaPlayer concurrentByPlayer(final Cursor cursor) {
+        return ArenaPlayer.parsePlayer(players[cursor.next(playerCount)]);
+    }
+
+    /**
+     * the lookup of an online player as parsePlayer(String) did it before
+     */
+    private static ArenaPlayer parseSynchronized(final String name) {
+        synchronized (ArenaPlayerBenchmark.class) {
+            final Player player = Bukkit.getPlayerExact(name);
+            if (player == null || !SYNCHRONIZED_PLAYERS.containsKey(name)) {
+                return null;
+            }
+            return SYNCHRONIZED_PLAYERS.get(name);
+        }
+    }
+
+    private static Server server() {
+        final Logger logger = Logger.getLogger("ArenaPlayerBenchmark");
+        return (Server) Proxy.newProxyInstance(Server.class.getClassLoader(), new Class<?>[]{Server.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getPlayerExact":
+                            return ONLINE.get((String) args[0]);
+                        case "getLogger":
+                            return logger;
+                        case "getName":
+                        case "getVersion":
+                        case "getBukkitVersion":
+                        case "toString":
+                            return "benchmark";
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static Player player(final String name, final UUID uuid) {
+        return (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[]{Player.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getName":
+                        case "toString":
+                            return name;
+                        case "getUniqueId":
+                            return uuid;
+                        case "hashCode":
+                            return uuid.hashCode();
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
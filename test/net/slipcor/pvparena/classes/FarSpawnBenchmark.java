@@ -0,0 +1,124 @@
+package net.slipcor.pvparena.classes;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <pre>
+ * PVP Arena Far Spawn Benchmark class
+ * </pre>
+ * <p/>
+ * Orders the spawns of an arena for smart distribution:
+ * <pre>
+ * - nestedSearch: the former SpawnManager.calculateFarSpawn loop, matching
+ *   spawn names for every pair and building its debug messages
+ * - distanceMatrix: PASpawnIndex.getFarSpawnOrder on a new index, so the
+ *   index is built and nothing is cached
+ * </pre>
+ *
+ * @author slipcor
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FarSpawnBenchmark {
+    private static final String WORLD = "world";
+
+    @Param({"8", "16", "32", "64"})
+    public int spawnCount;
+
+    private final List<PASpawn> spawns = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        for (int i = 0; i < spawnCount; i++) {
+            spawns.add(new PASpawn(new PALocation(WORLD,
+                    random.nextInt(256), 64 + random.nextInt(16), random.nextInt(256), 0f, 0f), "spawn" + i));
+        }
+    }
+
+    @Benchmark
+    public String[] distanceMatrix() {
+        return new PASpawnIndex(spawns, Collections.<PABlock>emptySet()).getFarSpawnOrder("spawn");
+    }
+
+    @Benchmark
+    public String[] nestedSearch(final Blackhole blackhole) {
+        final Set<PASpawn> locations = startingWith("spawn");
+        final Set<PASpawn> total = startingWith("spawn");
+        final String[] iteratings = new String[locations.size()];
+
+        for (int i = 0; i < total.size(); i++) {
+            if (i == 0) {
+                final PASpawn innerSpawn = locations.iterator().next();
+                iteratings[i] = innerSpawn.getName();
+                locations.remove(innerSpawn);
+                continue;
+            }
+            final String spawnName = calculateFarSpawn(iteratings, locations, total, blackhole);
+            iteratings[i] = spawnName;
+            for (final PASpawn spawn : locations) {
+                if (spawn.getName().equals(spawnName)) {
+                    locations.remove(spawn);
+                    break;
+                }
+            }
+        }
+        return iteratings;
+    }
+
+    private Set<PASpawn> startingWith(final String prefix) {
+        final Set<PASpawn> result = new HashSet<>();
+        for (final PASpawn spawn : spawns) {
+            if (spawn.getName().startsWith(prefix)) {
+                result.add(spawn);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * the former far spawn search, the debug messages go to the blackhole
+     */
+    private static String calculateFarSpawn(final String[] taken, final Set<PASpawn> available,
+                                            final Set<PASpawn> total, final Blackhole debug) {
+        String far = null;
+        for (final PASpawn s : available) {
+            far = s.getName();
+            break;
+        }
+        debug.consume("last resort: " + far);
+
+        double diff = 0;
+        for (final PASpawn s : available) {
+            debug.consume("> checking " + s.getName());
+            double tempDiff = 0;
+            for (int i = 0; i < taken.length && taken[i] != null; i++) {
+                for (final PASpawn tt : total) {
+                    for (final PASpawn aa : available) {
+                        if (tt.getName().equals(taken[i])
+                                && aa.getName().equals(s.getName())) {
+                            tempDiff += tt.getLocation().getDistanceSquared(aa.getLocation());
+                            debug.consume(">> tempDiff: " + tempDiff);
+                        }
+                    }
+                }
+            }
+
+            if (tempDiff > diff) {
+                debug.consume("-> diff");
+                diff = tempDiff;
+                far = s.getName();
+            }
+        }
+        return far;
+    }
+}
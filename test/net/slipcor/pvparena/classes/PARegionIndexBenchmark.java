@@ -0,0 +1,130 @@
+package net.slipcor.pvparena.classes;
+
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.loadables.ArenaRegion;
+import net.slipcor.pvparena.loadables.ArenaRegionShape;
+import net.slipcor.pvparena.regions.CuboidRegion;
+import net.slipcor.pvparena.regions.CylindricRegion;
+import net.slipcor.pvparena.regions.SphericRegion;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * <pre>
+ * PVP Arena Region Index Benchmark class
+ * </pre>
+ * <p/>
+ * Compares the chunk grid of PARegionIndex to the walk over every region of
+ * every arena that ArenaManager did before. Each arena has a battlefield, a
+ * lounge and a spectator region, the looked up blocks are spread over the
+ * whole map like block events on a hub.
+ * <p/>
+ * The scan reads the regions from arrays instead of the arena sets, which
+ * favours the old lookup.
+ *
+ * @author slipcor
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(PARegionIndexBenchmark.LOOKUPS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PARegionIndexBenchmark {
+    static final int LOOKUPS = 1024;
+    private static final String WORLD = "world";
+    private static final int ARENA_DISTANCE = 256;
+    private static final int ARENAS_PER_ROW = 16;
+
+    @Param({"10", "60", "200"})
+    public int arenaCount;
+
+    private ArenaRegion[][] arenaRegions;
+    private PARegionIndex index;
+    private PABlockLocation[] locations;
+
+    @Setup
+    public void setup() {
+        final List<Arena> arenas = new ArrayList<>();
+        arenaRegions = new ArenaRegion[arenaCount][];
+        for (int i = 0; i < arenaCount; i++) {
+            final int x = i % ARENAS_PER_ROW * ARENA_DISTANCE;
+            final int z = i / ARENAS_PER_ROW * ARENA_DISTANCE;
+
+            final Arena arena = mock(Arena.class);
+            final Set<ArenaRegion> regions = new HashSet<>();
+            regions.add(region(arena, "battlefield", new CuboidRegion(), x, z, 48));
+            regions.add(region(arena, "lounge", new SphericRegion(), x + 80, z, 8));
+            regions.add(region(arena, "spectator", new CylindricRegion(), x, z + 80, 16));
+            when(arena.getRegions()).thenReturn(regions);
+
+            arenas.add(arena);
+            arenaRegions[i] = regions.toArray(new ArenaRegion[0]);
+        }
+        index = PARegionIndex.build(arenas);
+
+        final Random random = new Random(42);
+        final int width = ARENAS_PER_ROW * ARENA_DISTANCE;
+        final int depth = (arenaCount / ARENAS_PER_ROW + 1) * ARENA_DISTANCE;
+        locations = new PABlockLocation[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            locations[i] = new PABlockLocation(WORLD,
+                    random.nextInt(width) - ARENA_DISTANCE / 2,
+                    random.nextInt(128),
+                    random.nextInt(depth) - ARENA_DISTANCE / 2);
+        }
+    }
+
+    @Benchmark
+    public void linearScan(final Blackhole blackhole) {
+        for (final PABlockLocation location : locations) {
+            blackhole.consume(scan(location));
+        }
+    }
+
+    @Benchmark
+    public void chunkIndex(final Blackhole blackhole) {
+        for (final PABlockLocation location : locations) {
+            blackhole.consume(lookup(location));
+        }
+    }
+
+    private ArenaRegion scan(final PABlockLocation location) {
+        for (final ArenaRegion[] regions : arenaRegions) {
+            for (final ArenaRegion region : regions) {
+                if (region.getShape().contains(location)) {
+                    return region;
+                }
+            }
+        }
+        return null;
+    }
+
+    private ArenaRegion lookup(final PABlockLocation location) {
+        for (final ArenaRegion region : index.getCandidates(location)) {
+            if (region.getShape().contains(location)) {
+                return region;
+            }
+        }
+        return null;
+    }
+
+    private static ArenaRegion region(final Arena arena, final String name, final ArenaRegionShape shape,
+                                      final int x, final int z, final int size) {
+        return new ArenaRegion(arena, name, shape, new PABlockLocation[]{
+                new PABlockLocation(WORLD, x - size, 40, z - size),
+                new PABlockLocation(WORLD, x + size, 100, z + size)});
+    }
+}
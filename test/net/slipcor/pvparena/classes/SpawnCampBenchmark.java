@@ -0,0 +1,148 @@
+package net.slipcor.pvparena.classes;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <pre>
+ * PVP Arena Spawn Camp Benchmark class
+ * </pre>
+ * <p/>
+ * One spawn camp pass of 4 teams with 16 spawns each and 64 fighters,
+ * counting the hits of every fighter:
+ * <pre>
+ * - locationMap: the former pass, mapping fighter locations to players,
+ *   searching the spawns of every team and wrapping every fighter location
+ *   for every spawn
+ * - flatCoordinates: the pass of Arena.spawnCampPunish, copying the fighter
+ *   coordinates into reused arrays and counting with the spawn index points
+ * </pre>
+ * The damage dealt afterwards is the same for both and not measured.
+ *
+ * @author slipcor
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpawnCampBenchmark {
+    private static final String WORLD = "world";
+    private static final String[] TEAMS = {"red", "blue", "green", "yellow"};
+    private static final int SPAWNS_PER_TEAM = 16;
+    private static final int FIGHTERS = 64;
+    private static final int MAP_SIZE = 128;
+
+    private final List<PASpawn> spawns = new ArrayList<>();
+    private PASpawnIndex index;
+    private Location[] fighters;
+
+    // reused by the flat pass, like the arena does
+    private final Location position = new Location(null, 0, 0, 0);
+    private final int[] worlds = new int[FIGHTERS];
+    private final double[] coords = new double[FIGHTERS * 3];
+    private final int[] hits = new int[FIGHTERS];
+
+    @Setup
+    public void setup() {
+        final World world = world(WORLD);
+        final Random random = new Random(42);
+        for (final String team : TEAMS) {
+            for (int i = 0; i < SPAWNS_PER_TEAM; i++) {
+                spawns.add(new PASpawn(new PALocation(WORLD,
+                        random.nextInt(MAP_SIZE), 64, random.nextInt(MAP_SIZE), 0f, 0f), team + "spawn" + i));
+            }
+        }
+        index = new PASpawnIndex(spawns, Collections.<PABlock>emptySet());
+
+        fighters = new Location[FIGHTERS];
+        for (int i = 0; i < FIGHTERS; i++) {
+            if (i % 4 == 0) {
+                // camping next to a spawn
+                final PALocation spawn = spawns.get(random.nextInt(spawns.size())).getLocation();
+                fighters[i] = new Location(world, spawn.getX() + random.nextDouble() * 4 - 2,
+                        spawn.getY(), spawn.getZ() + random.nextDouble() * 4 - 2);
+            } else {
+                fighters[i] = new Location(world, random.nextDouble() * MAP_SIZE,
+                        64 + random.nextInt(3), random.nextDouble() * MAP_SIZE);
+            }
+        }
+    }
+
+    @Benchmark
+    public int locationMap() {
+        final Map<Location, Integer> players = new HashMap<>();
+        for (int i = 0; i < FIGHTERS; i++) {
+            // Player.getLocation() returns a new location
+            players.put(fighters[i].clone(), i);
+        }
+        int result = 0;
+        for (final String team : TEAMS) {
+            final Set<PALocation> teamSpawns = new HashSet<>();
+            for (final PASpawn spawn : spawns) {
+                if (spawn.getName().startsWith(team + "spawn")) {
+                    teamSpawns.add(spawn.getLocation());
+                }
+            }
+            for (final PALocation spawnLoc : teamSpawns) {
+                for (final Map.Entry<Location, Integer> player : players.entrySet()) {
+                    if (spawnLoc.getDistanceSquared(new PALocation(player.getKey())) < 9) {
+                        result++;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int flatCoordinates() {
+        for (int i = 0; i < FIGHTERS; i++) {
+            // Player.getLocation(Location) fills the given location
+            position.setWorld(fighters[i].getWorld());
+            position.setX(fighters[i].getX());
+            position.setY(fighters[i].getY());
+            position.setZ(fighters[i].getZ());
+            worlds[i] = PABlockLocation.getWorldId(position.getWorld().getName());
+            coords[i * 3] = position.getX();
+            coords[i * 3 + 1] = position.getY();
+            coords[i * 3 + 2] = position.getZ();
+            hits[i] = 0;
+        }
+        for (final String team : TEAMS) {
+            final PASpawnIndex.Points points = index.getSpawnPointsStartingWith(team + "spawn");
+            for (int i = 0; i < FIGHTERS; i++) {
+                hits[i] += points.countNear(worlds[i], coords[i * 3], coords[i * 3 + 1], coords[i * 3 + 2], 9);
+            }
+        }
+        int result = 0;
+        for (final int hit : hits) {
+            result += hit;
+        }
+        return result;
+    }
+
+    private static World world(final String name) {
+        return (World) Proxy.newProxyInstance(World.class.getClassLoader(), new Class<?>[]{World.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getName":
+                        case "toString":
+                            return name;
+                        case "hashCode":
+                            return name.hashCode();
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
@@ -0,0 +1,131 @@
+package net.slipcor.pvparena.regions;
+
+import net.slipcor.pvparena.arena.Arena;
+import net.slipcor.pvparena.classes.PABlockLocation;
+import net.slipcor.pvparena.loadables.ArenaRegion;
+import net.slipcor.pvparena.loadables.ArenaRegionShape;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * <pre>
+ * PVP Arena Region Shape Benchmark class
+ * </pre>
+ * <p/>
+ * Compares contains() of the cuboid, spheric and cylindric shape, using the
+ * cached geometry, with the former calculation from the region corners.
+ * A tenth of the checked locations is in another world, the others are
+ * spread over twice the size of the region.
+ * <p/>
+ * The former cylinder check resolved a corner through Bukkit.getWorld, the
+ * replica copies the corner instead, which favours it.
+ *
+ * @author slipcor
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(RegionShapeBenchmark.CHECKS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegionShapeBenchmark {
+    static final int CHECKS = 1024;
+    private static final String WORLD = "world";
+    private static final int SIZE = 32;
+
+    @Param({"cuboid", "spheric", "cylindric"})
+    public String shape;
+
+    private ArenaRegion region;
+    private boolean sphere;
+    private boolean cylinder;
+    private PABlockLocation[] locations;
+
+    @Setup
+    public void setup() {
+        sphere = "spheric".equals(shape);
+        cylinder = "cylindric".equals(shape);
+        final ArenaRegionShape regionShape;
+        if (sphere) {
+            regionShape = new SphericRegion();
+        } else if (cylinder) {
+            regionShape = new CylindricRegion();
+        } else {
+            regionShape = new CuboidRegion();
+        }
+        region = new ArenaRegion(mock(Arena.class), "battlefield", regionShape, new PABlockLocation[]{
+                new PABlockLocation(WORLD, -SIZE, 64 - SIZE, -SIZE),
+                new PABlockLocation(WORLD, SIZE, 64 + SIZE, SIZE)});
+
+        final Random random = new Random(42);
+        locations = new PABlockLocation[CHECKS];
+        for (int i = 0; i < CHECKS; i++) {
+            locations[i] = new PABlockLocation(i % 10 == 0 ? "world_nether" : WORLD,
+                    random.nextInt(SIZE * 4) - SIZE * 2,
+                    64 + random.nextInt(SIZE * 4) - SIZE * 2,
+                    random.nextInt(SIZE * 4) - SIZE * 2);
+        }
+    }
+
+    @Benchmark
+    public void cachedGeometry(final Blackhole blackhole) {
+        final ArenaRegionShape regionShape = region.getShape();
+        for (final PABlockLocation location : locations) {
+            blackhole.consume(regionShape.contains(location));
+        }
+    }
+
+    @Benchmark
+    public void recalculated(final Blackhole blackhole) {
+        for (final PABlockLocation location : locations) {
+            final boolean result;
+            if (sphere) {
+                result = containsSphere(region, location);
+            } else if (cylinder) {
+                result = containsCylinder(region, location);
+            } else {
+                result = containsCuboid(region, location);
+            }
+            blackhole.consume(result);
+        }
+    }
+
+    private static boolean containsCuboid(final ArenaRegion region, final PABlockLocation loc) {
+        if (!loc.getWorldName().equals(region.getWorldName())) {
+            return false;
+        }
+        return loc.isInAABB(region.locs[0], region.locs[1]);
+    }
+
+    private static boolean containsSphere(final ArenaRegion region, final PABlockLocation loc) {
+        if (!loc.getWorldName().equals(region.getWorldName())) {
+            return false;
+        }
+        final PABlockLocation center = region.locs[0].getMidpoint(region.locs[1]);
+        final Double radiusSquared = region.locs[0].getDistanceSquared(region.locs[1]) / 4;
+        return loc.getDistanceSquared(center) <= radiusSquared;
+    }
+
+    private static boolean containsCylinder(final ArenaRegion region, final PABlockLocation loc) {
+        if (!loc.getWorldName().equals(region.getWorldName())) {
+            return false;
+        }
+        if (loc.getY() > region.locs[1].getY() || loc.getY() < region.locs[0].getY()) {
+            return false;
+        }
+        final PABlockLocation center = region.locs[1].getMidpoint(region.locs[0]);
+        final PABlockLocation corner = new PABlockLocation(region.locs[1].getWorldName(),
+                region.locs[1].getX(), region.locs[1].getY(), region.locs[1].getZ());
+        corner.setY(region.locs[0].getY());
+        final Double radiusSquared = region.locs[0].getDistanceSquared(corner) / 4;
+        center.setY(loc.getY());
+        return loc.getDistanceSquared(center) <= radiusSquared;
+    }
+}
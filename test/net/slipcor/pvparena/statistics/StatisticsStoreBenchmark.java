@@ -0,0 +1,240 @@
+package net.slipcor.pvparena.statistics;
+
+import net.slipcor.pvparena.statistics.StatisticsStore.Entry;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static net.slipcor.pvparena.statistics.StatisticsStore.TYPES;
+
+/**
+ * <pre>
+ * PVP Arena Statistics Store Benchmark class
+ * </pre>
+ * <p/>
+ * Saves and loads the statistics of 10k, 100k and 1M players:
+ * <pre>
+ * - saveYamlConfiguration: the former save at the end of a match, setting the
+ *   changed players in one YamlConfiguration and writing all of players.yml
+ * - flushYamlStore / flushLogStore: putting the changed players into a store
+ *   and flushing it, as the writer thread does
+ * - loadYamlConfiguration: the former startup, parsing players.yml and
+ *   reading every player
+ * - openYamlStore / openLogStore: opening a store
+ * </pre>
+ * A match changes the statistics of 64 players.
+ *
+ * @author slipcor
+ */
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class StatisticsStoreBenchmark {
+    private static final String ARENA = "arena";
+    private static final int CHANGED = 64;
+    private static final Logger LOGGER = Logger.getLogger("StatisticsStoreBenchmark");
+
+    @State(Scope.Benchmark)
+    public static class YamlConfigurationState {
+        @Param({"10000", "100000", "1000000"})
+        public int players;
+
+        File folder;
+        File file;
+        String[] nodes;
+        YamlConfiguration config;
+        final Random random = new Random(42);
+
+        @Setup
+        public void setup() throws IOException, InvalidConfigurationException {
+            folder = Files.createTempDirectory("pa-stats").toFile();
+            file = new File(folder, "players.yml");
+            nodes = writeYaml(file, players);
+            config = new YamlConfiguration();
+            config.load(file);
+        }
+
+        @TearDown
+        public void tearDown() {
+            delete(folder);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class YamlStoreState {
+        @Param({"10000", "100000", "1000000"})
+        public int players;
+
+        File folder;
+        File file;
+        String[] nodes;
+        StatisticsStore store;
+        final Random random = new Random(42);
+
+        @Setup
+        public void setup() throws IOException {
+            folder = Files.createTempDirectory("pa-stats").toFile();
+            file = new File(folder, "players.yml");
+            nodes = writeYaml(file, players);
+            store = new YamlStatisticsStore(file);
+            store.open();
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            store.close();
+            delete(folder);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LogStoreState {
+        @Param({"10000", "100000", "1000000"})
+        public int players;
+
+        File folder;
+        File file;
+        String[] nodes;
+        StatisticsStore store;
+        final Random random = new Random(42);
+
+        @Setup
+        public void setup() throws IOException {
+            folder = Files.createTempDirectory("pa-stats").toFile();
+            file = new File(folder, "players.log");
+            nodes = writeLog(file, players);
+            store = new LogStatisticsStore(file, LOGGER);
+            store.open();
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            store.close();
+            delete(folder);
+        }
+    }
+
+    @Benchmark
+    public void saveYamlConfiguration(final YamlConfigurationState state) throws IOException {
+        for (int i = 0; i < CHANGED; i++) {
+            final String node = state.nodes[state.random.nextInt(state.nodes.length)];
+            final Entry entry = randomEntry(state.random, node);
+            for (int type = 0; type < TYPES.length; type++) {
+                state.config.set(ARENA + '.' + node + '.' + TYPES[type].name().toLowerCase(), entry.getValue(type));
+            }
+            state.config.set(ARENA + '.' + node + ".playerName", entry.getPlayerName());
+        }
+        state.config.save(state.file);
+    }
+
+    @Benchmark
+    public void flushYamlStore(final YamlStoreState state) throws IOException {
+        putChanged(state.store, state.nodes, state.random);
+        state.store.flush();
+    }
+
+    @Benchmark
+    public void flushLogStore(final LogStoreState state) throws IOException {
+        putChanged(state.store, state.nodes, state.random);
+        state.store.flush();
+    }
+
+    @Benchmark
+    public void loadYamlConfiguration(final YamlConfigurationState state, final Blackhole blackhole)
+            throws IOException, InvalidConfigurationException {
+        final YamlConfiguration config = new YamlConfiguration();
+        config.load(state.file);
+        final ConfigurationSection arena = config.getConfigurationSection(ARENA);
+        final Map<String, int[]> result = new HashMap<>();
+        for (final String node : arena.getKeys(false)) {
+            final int[] values = new int[TYPES.length];
+            for (int type = 0; type < TYPES.length; type++) {
+                values[type] = arena.getInt(node + '.' + TYPES[type].name().toLowerCase());
+            }
+            blackhole.consume(arena.getString(node + ".playerName"));
+            result.put(node, values);
+        }
+        blackhole.consume(result);
+    }
+
+    @Benchmark
+    public void openYamlStore(final YamlStoreState state, final Blackhole blackhole) throws IOException {
+        final StatisticsStore store = new YamlStatisticsStore(state.file);
+        store.open();
+        blackhole.consume(store);
+    }
+
+    @Benchmark
+    public void openLogStore(final LogStoreState state, final Blackhole blackhole) throws IOException {
+        final StatisticsStore store = new LogStatisticsStore(state.file, LOGGER);
+        store.open();
+        blackhole.consume(store);
+        store.close();
+    }
+
+    private static void putChanged(final StatisticsStore store, final String[] nodes, final Random random) {
+        for (int i = 0; i < CHANGED; i++) {
+            final String node = nodes[random.nextInt(nodes.length)];
+            store.put(ARENA, node, randomEntry(random, node));
+        }
+    }
+
+    private static String[] writeYaml(final File file, final int players) throws IOException {
+        final StatisticsStore store = new YamlStatisticsStore(file);
+        store.open();
+        final String[] nodes = fill(store, players);
+        store.close();
+        return nodes;
+    }
+
+    private static String[] writeLog(final File file, final int players) throws IOException {
+        final StatisticsStore store = new LogStatisticsStore(file, LOGGER);
+        store.open();
+        final String[] nodes = fill(store, players);
+        store.close();
+        return nodes;
+    }
+
+    private static String[] fill(final StatisticsStore store, final int players) {
+        final Random random = new Random(players);
+        final String[] nodes = new String[players];
+        for (int i = 0; i < players; i++) {
+            nodes[i] = new UUID(random.nextLong(), random.nextLong()).toString();
+            store.put(ARENA, nodes[i], randomEntry(random, nodes[i]));
+        }
+        return nodes;
+    }
+
+    private static Entry randomEntry(final Random random, final String node) {
+        final int[] values = new int[TYPES.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(1000);
+        }
+        return new Entry("player" + node.substring(0, 8), values);
+    }
+
+    private static void delete(final File folder) {
+        final File[] files = folder.listFiles();
+        if (files != null) {
+            for (final File file : files) {
+                file.delete();
+            }
+        }
+        folder.delete();
+    }
+}